@@ -127,6 +127,8 @@ def _invoke_claro_compiler_impl(ctx):
         args.add("--silent")
     if ctx.attr.expect_errors:
         args.add("--expect_errors")
+    if ctx.attr.concurrent_leaf_procedure_validation:
+        args.add("--concurrent_leaf_procedure_validation")
     args.add("--package", project_package)
     for src in srcs:
         args.add("--src", src)
@@ -140,11 +142,16 @@ def _invoke_claro_compiler_impl(ctx):
             dep_claro_module_file = module_dep_label[ClaroModuleInfo].info.path_to_claro_module_file
             dep_module_runfiles.append(dep_claro_module_file)
             dep_module_targets_by_dep_name[module_dep_name] = module_dep_label
-            args.add("--dep", dep_claro_module_file, format = "{0}:%s".format(module_dep_name))
+            # Only the dep module's interface is passed here (rather than the full .claro_module) so that most edits to
+            # the dep module's procedure bodies don't invalidate this compilation.
+            args.add(
+                "--dep",
+                module_dep_label[ClaroModuleInfo].info.path_to_claro_module_interface_file,
+                format = "{0}:%s".format(module_dep_name))
             added_dep_module_names.append(module_dep_name)
         # Add args for all the exported transitive deps exported by this dep.
-        for transitive_dep_module_file in module_dep_label[DefaultInfo].files.to_list():
-            args.add("--transitive_exported_dep_module", transitive_dep_module_file)
+        for transitive_dep_module_interface_file in module_dep_label[ClaroModuleInfo].info.exported_interface_files.to_list():
+            args.add("--transitive_exported_dep_module", transitive_dep_module_interface_file)
         return added_dep_module_names
 
     # Add all stdlib modules as dep module args.
@@ -167,9 +174,19 @@ def _invoke_claro_compiler_impl(ctx):
     for export in ctx.attr.exports:
         args.add("--export", export)
     args.add("--output_file_path", ctx.outputs.compiler_out)
+    # The compiler may also directly emit the main class's .class files so that no separate javac action is needed.
+    classpath_jars = depset(transitive = [dep[JavaInfo].transitive_compile_time_jars for dep in ctx.attr.classpath])
+    if ctx.outputs.classfiles_jar_out:
+        args.add("--classfiles_jar_out", ctx.outputs.classfiles_jar_out)
+        args.add_all(classpath_jars, before_each = "--classpath")
 
     # TODO(steving) Drop this once the "bootstrapping" version of the compiler also accepts this.
+    unused_inputs_list = None
     if "bootstrapping" not in ctx.executable.claro_compiler.basename:
+        # The compiler will report any dep graph .claro_module files (and their srcs) that it never actually needed to
+        # read, so that Bazel can avoid rerunning this compilation when only those unused inputs change.
+        unused_inputs_list = ctx.actions.declare_file(ctx.label.name + ".unused_inputs")
+        args.add("--unused_inputs_list_out", unused_inputs_list)
         # Add paths to all transitive .claro_module files for all modules in this compilation unit's subgraph.
         transitive_subgraph_dep_modules_depset = depset(
             direct = [dep[ClaroModuleInfo].info for dep in ctx.attr.deps] + [dep[ClaroModuleInfo].info for dep in ctx.attr._stdlib_module_deps.keys()],
@@ -195,29 +212,39 @@ def _invoke_claro_compiler_impl(ctx):
     ctx.actions.run(
         inputs = depset(
             direct = srcs,
-            transitive = [dep.files for dep in ctx.attr._stdlib_module_deps.keys()] +
+            transitive = [classpath_jars] +
+                         [dep.files for dep in ctx.attr._stdlib_module_deps.keys()] +
                          [dep[ClaroModuleInfo].info.files for dep in ctx.attr._stdlib_module_deps.keys()] +
                          [dep.files for dep in ctx.attr.deps.keys()] +
                          [dep[ClaroModuleInfo].info.files for dep in ctx.attr.deps]
         ),
-        outputs = [ctx.outputs.compiler_out],
+        outputs = [ctx.outputs.compiler_out] +
+                  ([ctx.outputs.classfiles_jar_out] if ctx.outputs.classfiles_jar_out else []) +
+                  ([unused_inputs_list] if unused_inputs_list else []),
         arguments = [args],
         progress_message = "Compiling Claro Program: " + ctx.outputs.compiler_out.path,
         executable = ctx.executable.claro_compiler,
+        unused_inputs_list = unused_inputs_list,
     )
 
+    claro_module_interface = None
     if is_module:
         # I actually want to immediately unpack the .claro_module and produce a .java file for the static java codegen of
         # this module. This is *solely* for the sake of this Bazel build being incremental. It's a bit strange for this rule
         # to have just packed this into the .claro_module and then immediately extract it, but for now, my thought process
         # is that this helps to ensure that this .java file is *actually* coming from this compiled module, and not from
         # some external Bazel shenanigans... TODO(steving) This decision should be revisited in the future.
+        # This same action also produces the .claro_module_interface file, which is the only part of this module that
+        # dependent compilation units actually read directly. It's stable under edits to procedure bodies, so long as
+        # they don't change the set of generic procedure monomorphizations this module codegens.
+        claro_module_interface = ctx.actions.declare_file(ctx.label.name + ".claro_module_interface")
         args = ctx.actions.args()
         args.add("--claro_module_file", ctx.outputs.compiler_out)
         args.add("--static_java_out", ctx.outputs.module_static_java_out)
+        args.add("--claro_module_interface_out", claro_module_interface)
         ctx.actions.run(
             inputs = [ctx.outputs.compiler_out],
-            outputs = [ctx.outputs.module_static_java_out],
+            outputs = [ctx.outputs.module_static_java_out, claro_module_interface],
             arguments = [args],
             progress_message = "Extracting Module Static Java Codegen: " + ctx.outputs.module_static_java_out.short_path,
             executable = ctx.executable._module_deserialization_util,
@@ -238,8 +265,17 @@ def _invoke_claro_compiler_impl(ctx):
                 unique_module_name = ctx.attr.unique_module_name,
                 exports = [dep_module_targets_by_dep_name[export] for export in ctx.attr.exports],
                 path_to_claro_module_file = ctx.outputs.compiler_out,
+                path_to_claro_module_interface_file = claro_module_interface,
+                # The interface files for this module and all of the modules it exports, mirroring DefaultInfo.files.
+                exported_interface_files = depset(
+                    direct = [claro_module_interface] if claro_module_interface else [],
+                    transitive = [
+                        dep_module_targets_by_dep_name[export][ClaroModuleInfo].info.exported_interface_files
+                        for export in ctx.attr.exports
+                    ]
+                ),
                 files = depset(
-                    direct = srcs + [ctx.outputs.compiler_out],
+                    direct = srcs + [ctx.outputs.compiler_out] + ([claro_module_interface] if claro_module_interface else []),
                     transitive = [dep[ClaroModuleInfo].info.files for dep in ctx.attr.deps]
                 )
             ),
@@ -252,18 +288,31 @@ def _invoke_claro_compiler_impl(ctx):
     ]
 
 
-def claro_binary(name, main_file, srcs = [], deps = {}, resources = {}, optional_stdlib_deps = [], debug = False, visibility = None):
-    _claro_binary(name, main_file, "{0}.java".format(name), srcs, deps, resources, optional_stdlib_deps, debug, visibility)
+def claro_binary(name, main_file, srcs = [], deps = {}, resources = {}, optional_stdlib_deps = [], debug = False, visibility = None, appcds = False, appcds_training_args = [], appcds_training_timeout_secs = 60, concurrent_leaf_procedure_validation = False, emit_class_files = False):
+    _claro_binary(name, main_file, "{0}.java".format(name), srcs, deps, resources, optional_stdlib_deps, debug, visibility, appcds = appcds, appcds_training_args = appcds_training_args, appcds_training_timeout_secs = appcds_training_timeout_secs, concurrent_leaf_procedure_validation = concurrent_leaf_procedure_validation, emit_class_files = emit_class_files)
 
 def claro_expected_errors(name, main_file, srcs = [], deps = {}, resources = {}, optional_stdlib_deps = [], debug = False, visibility = None):
     _claro_binary(name, main_file, "{0}.errs".format(name), srcs, deps, resources, optional_stdlib_deps, debug, visibility, expect_errors = True)
 
-def _claro_binary(name, main_file, compiler_out, srcs = [], deps = {}, resources = {}, optional_stdlib_deps = [], debug = False, visibility = None, expect_errors = False):
+def _claro_binary(name, main_file, compiler_out, srcs = [], deps = {}, resources = {}, optional_stdlib_deps = [], debug = False, visibility = None, expect_errors = False, appcds = False, appcds_training_args = [], appcds_training_timeout_secs = 60, concurrent_leaf_procedure_validation = False, emit_class_files = False):
     # Add optional stdlib dep targets since the user doesn't actually "know" the explicit Bazel target that implements it.
     deps = dict(**deps) # Make a copy of the frozen deps dict.
     for optional_stdlib_dep in optional_stdlib_deps:
         deps[optional_stdlib_dep] = CLARO_OPTIONAL_STDLIB_MODULE_DEPS[optional_stdlib_dep]
 
+    java_deps = (
+        CLARO_BUILTIN_JAVA_DEPS +
+        # Dict comprehension just to "uniquify" the dep targets. It's technically completely valid to reuse the same
+        # dep more than once for different dep module impls in a claro_* rule.
+        {"{0}_compiled_claro_module_java_lib".format(dep): "" for dep in deps.values()}.keys() +
+        # Add the Stdlib Modules compiled java libs as default deps.
+        ["{0}_compiled_claro_module_java_lib".format(Label(stdlib_mod)) for stdlib_mod in CLARO_STDLIB_MODULES.values()]
+    )
+    # When requested, the compiler emits the main class's .class files directly (in addition to the .java source, which
+    # is kept around for debugging) so that the java_binary doesn't need to run javac over the codegen'd source.
+    emit_class_files = emit_class_files and not expect_errors
+    classfiles_jar_out = "{0}_classes.jar".format(name) if emit_class_files else None
+
     _invoke_claro_compiler(
         name = "{0}_bin".format(name),
         main_file = main_file,
@@ -278,21 +327,72 @@ def _claro_binary(name, main_file, compiler_out, srcs = [], deps = {}, resources
         debug = debug,
         visibility = visibility,
         expect_errors = expect_errors,
+        concurrent_leaf_procedure_validation = concurrent_leaf_procedure_validation,
+        classfiles_jar_out = classfiles_jar_out,
+        classpath = java_deps if emit_class_files else [],
     )
-    if not expect_errors:
+    if emit_class_files:
+        native.java_import(
+            name = "{0}_classes".format(name),
+            jars = [classfiles_jar_out],
+            deps = java_deps,
+        )
+        native.java_binary(
+            name = name,
+            # TODO(steving) I need this package to be derived from the package computed in _invoke_claro_compiler().
+            main_class = "claro.lang." + name,
+            runtime_deps = [":{0}_classes".format(name)],
+            resources = resources.values(),
+        )
+    elif not expect_errors:
         native.java_binary(
             name = name,
             # TODO(steving) I need this package to be derived from the package computed in _invoke_claro_compiler().
             main_class = "claro.lang." + name,
             srcs = [":{0}.java".format(name)],
-            deps = CLARO_BUILTIN_JAVA_DEPS +
-                # Dict comprehension just to "uniquify" the dep targets. It's technically completely valid to reuse the same
-                # dep more than once for different dep module impls in a claro_* rule.
-                {"{0}_compiled_claro_module_java_lib".format(dep): "" for dep in deps.values()}.keys() +
-                # Add the Stdlib Modules compiled java libs as default deps.
-                ["{0}_compiled_claro_module_java_lib".format(Label(stdlib_mod)) for stdlib_mod in CLARO_STDLIB_MODULES.values()],
+            deps = java_deps,
             resources = resources.values(),
         )
+        if appcds:
+            _claro_appcds_archive(name, appcds_training_args, appcds_training_timeout_secs, visibility)
+
+# Startup of short-lived Claro programs is dominated by the JVM loading and verifying the classes of Guava, Claro's
+# runtime Types, etc. This produces an AppCDS archive `<name>.jsa` (alongside `<name>_deploy.jar`) by training on a run of
+# the program (w/ the given args, and no stdin) and dumping every class that was loaded during that run, so that they can
+# be memory-mapped from the archive on subsequent runs instead.
+#
+# The training run is killed after `appcds_training_timeout_secs` so that a program that never exits (e.g. a server)
+# can't hang the build. It's allowed to fail or time out, w/ a warning, since whatever classes it loaded before then are
+# still worth archiving. But the build fails if it didn't manage to record any classes at all.
+#
+# The JDK only accepts an archive when both of these match the ones it was dumped with:
+#   - The classpath. So the archive is dumped against the bare relative path `<name>_deploy.jar`.
+#   - The exact JVM build. So the archive is dumped w/ the same Java runtime that the java_binary targets (i.e. the one
+#     selected by --java_runtime_version), not the host JDK that Bazel itself happens to run on.
+# To use it, ship both files side by side along w/ that same Java runtime (e.g. in a container image) and run from that
+# directory:
+#     java -Xshare:auto -XX:SharedArchiveFile=<name>.jsa -cp <name>_deploy.jar claro.lang.<name>
+# `-Xshare:auto` silently falls back to regular class loading if the archive turns out to be unusable. Note that this
+# means that `bazel run :<name>` does NOT use the archive, as it neither passes -XX:SharedArchiveFile nor runs from the
+# deploy jar.
+def _claro_appcds_archive(name, appcds_training_args, appcds_training_timeout_secs, visibility):
+    native.genrule(
+        name = "{0}_appcds".format(name),
+        srcs = [":{0}_deploy.jar".format(name), "@bazel_tools//tools/jdk:current_java_runtime"],
+        outs = ["{0}.jsa".format(name), "{0}.classlist".format(name)],
+        toolchains = ["@bazel_tools//tools/jdk:current_java_runtime"],
+        cmd = " && ".join([
+            "case $(JAVA) in /*) JAVA=$(JAVA) ;; *) JAVA=$$PWD/$(JAVA) ;; esac",
+            "JSA=$$PWD/$(location {0}.jsa)".format(name),
+            "CLASSLIST=$$PWD/$(location {0}.classlist)".format(name),
+            "cd $$(dirname $(location :{0}_deploy.jar))".format(name),
+            "(timeout {2} $$JAVA -Xshare:off -XX:DumpLoadedClassList=$$CLASSLIST -cp {0}_deploy.jar claro.lang.{0} {1} < /dev/null > /dev/null 2>&1 || echo \"WARNING: AppCDS training run of {0} exited w/ status $$? (124 means it timed out after {2}s). Archiving the classes it loaded before then.\" >&2)".format(
+                name, " ".join(["'{0}'".format(arg) for arg in appcds_training_args]), appcds_training_timeout_secs),
+            "([ -s $$CLASSLIST ] || (echo \"ERROR: AppCDS training run of {0} didn't record any loaded classes.\" >&2 && exit 1))".format(name),
+            "$$JAVA -Xshare:dump -XX:SharedClassListFile=$$CLASSLIST -XX:SharedArchiveFile=$$JSA -cp {0}_deploy.jar > /dev/null".format(name),
+        ]),
+        visibility = visibility,
+    )
 
 def claro_module(name, module_api_file, srcs = ["@claro-lang//:empty_claro_src"], deps = {}, resources = {}, exports = [], optional_stdlib_deps = [], debug = False, **kwargs):
     _claro_module_internal(_invoke_claro_compiler, name, module_api_file, srcs, deps, resources, exports, exported_custom_java_deps = [], optional_stdlib_deps = optional_stdlib_deps, debug = debug, **kwargs)
@@ -371,7 +471,7 @@ def _claro_module_internal(invoke_claro_compiler_rule, name, module_api_file, sr
         exports = ["{0}_compiled_claro_module_java_lib".format(deps[export]) for export in exports] + \
                   exported_custom_java_deps,
         # Default attrs like `visibility` will be set here so that Bazel defaults are honored.
-        **{k:v for k,v in kwargs.items() if k not in ["stdlib_srcs", "claro_compiler", "override_claro_builtin_java_deps"]}
+        **{k:v for k,v in kwargs.items() if k not in ["stdlib_srcs", "claro_compiler", "override_claro_builtin_java_deps", "concurrent_leaf_procedure_validation", "classfiles_jar_out", "classpath"]}
     )
 
 def _transpose_module_deps_dict(deps, allowDuplicateValues = True):
@@ -462,7 +562,23 @@ INVOKE_CLARO_COMPILER_ATTRS = {
               "primarily developed for the sake of automatically generating documentation that demonstrates Claro's " +
               "error messaging in a reproducible way.",
         default = False,
-    )
+    ),
+    "classfiles_jar_out": attr.output(
+        doc = "Optional jar of .class files for the main class, compiled directly by the Claro compiler so that the " +
+              "claro_binary() doesn't need a separate javac action. Only supported for claro_binary() targets.",
+        mandatory = False,
+    ),
+    "classpath": attr.label_list(
+        doc = "The Java deps needed on the classpath to compile the main class when `classfiles_jar_out` is set.",
+        providers = [JavaInfo],
+        default = [],
+    ),
+    "concurrent_leaf_procedure_validation": attr.bool(
+        doc = "Opt-in to having the Claro compiler validate the bodies of \"leaf\" procedures (those that make no " +
+              "procedure calls and only reference their own args and locals) concurrently. Type errors are still " +
+              "reported in source order, so this should only affect compile times.",
+        default = False,
+    ),
 }
 
 _invoke_claro_compiler = rule(
@@ -205,7 +205,8 @@ public class ScopedHeap {
     scopeStack.elementAt(identifierScopeLevel.get()).scopedSymbolTable.get(identifier).used = true;
   }
 
-  public static void markDepModuleUsed(String depModule) {
+  // Synchronized as procedure bodies may be validated concurrently, and any of them may reference a dep module's types.
+  public static synchronized void markDepModuleUsed(String depModule) {
     // Don't need to do anything if this module's already been marked used.
     if (ScopedHeap.currProgramDepModules.contains(depModule, /*isUsed=*/false)) {
       Map<Boolean, SerializedClaroModule.UniqueModuleDescriptor> depModuleRowMap =
@@ -466,6 +467,8 @@ public class ScopedHeap {
     public boolean isAssignable = true;
     public boolean isStaticValue = false;
     public boolean isLazyValue = false;
+    // Set during codegen when this local is declared as a Java primitive rather than the boxed Claro value.
+    public boolean isUnboxedJavaLocal = false;
 
     public IdentifierData(Type type, Object interpretedValue) {
       this(type, interpretedValue, false);
@@ -482,6 +485,7 @@ public class ScopedHeap {
       shallowCopy.used = this.used;
       shallowCopy.isTypeDefinition = this.isTypeDefinition;
       shallowCopy.isAssignable = this.isAssignable;
+      shallowCopy.isUnboxedJavaLocal = this.isUnboxedJavaLocal;
       return shallowCopy;
     }
 
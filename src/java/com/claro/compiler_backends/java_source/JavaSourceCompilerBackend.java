@@ -56,8 +56,14 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
   public static ScopedHeap scopedHeap;
   public static ProgramNode mainSrcFileProgramNode;
   public static JavaSourceCompilerBackend javaSourceCompilerBackend;
-  private static ImmutableMap<String, ImmutableMap<String, ImmutableSet<ImmutableList<Type>>>>
+  // This index is intentionally kept in terms of the serialized TypeProtos exactly as they were read from the dep
+  // modules. It covers the entire transitive closure of the dep graph, and the vast majority of its entries will never
+  // be looked up in any given compilation unit, so eagerly parsing every one of them into a Type is wasted work.
+  private static ImmutableMap<String, ImmutableSetMultimap<String, ImmutableList<TypeProtos.TypeProto>>>
       depsClosureCodegendMonomorphizationsByModuleAndProc = ImmutableMap.of();
+  // Only the monomorphizations of dep module procedures that are actually called get parsed, once per procedure.
+  private static final HashBasedTable<String, String, ImmutableSet<ImmutableList<Type>>>
+      parsedDepsClosureCodegendMonomorphizationsByModuleAndProc = HashBasedTable.create();
   // ***** END DEP MODULE MONOMORPHIZATION RELATED FIELDS *****
 
   private final String[] COMMAND_LINE_ARGS;
@@ -72,6 +78,12 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
   private final ImmutableList<SrcFile> SRCS;
   private final Optional<String> OPTIONAL_UNIQUE_MODULE_NAME;
   private final Optional<String> OPTIONAL_OUTPUT_FILE_PATH;
+  private final Optional<String> OPTIONAL_UNUSED_INPUTS_LIST_FILE_PATH;
+  private final Optional<String> OPTIONAL_CLASSFILES_JAR_OUTPUT_PATH;
+  private final ImmutableList<String> CLASSPATH;
+  // The srcs of each parsed dep module are only ever actually read by the dep module monomorphization subprocess, so
+  // these are tracked in order to report them as unused inputs when no dep module monomorphization was necessary.
+  private final ImmutableSet.Builder<String> parsedDepModulesSrcPaths = ImmutableSet.builder();
 
   public int ERR_EXIT_CODE = 1; // To be overridden in the case that a compilation err is expected.
 
@@ -155,6 +167,14 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
     this.EXPORTS = options.exports.stream().collect(ImmutableSet.toImmutableSet());
     this.OPTIONAL_OUTPUT_FILE_PATH =
         Optional.ofNullable(options.output_file_path.isEmpty() ? null : options.output_file_path);
+    this.OPTIONAL_UNUSED_INPUTS_LIST_FILE_PATH =
+        Optional.ofNullable(options.unused_inputs_list_out.isEmpty() ? null : options.unused_inputs_list_out);
+    this.OPTIONAL_CLASSFILES_JAR_OUTPUT_PATH =
+        Optional.ofNullable(options.classfiles_jar_out.isEmpty() ? null : options.classfiles_jar_out);
+    this.CLASSPATH = options.classpath.stream().filter(s -> !s.isEmpty()).collect(ImmutableList.toImmutableList());
+    // Bazel requires this file to exist even if compilation fails (e.g. when errors are expected), so start out with
+    // the conservative assumption that every input was used. This will be overwritten on successful compilation.
+    this.OPTIONAL_UNUSED_INPUTS_LIST_FILE_PATH.ifPresent(JavaSourceCompilerBackend::createUnusedInputsListFile);
 
     // Make sure that the MonomorphizationCoordinator knows paths to all .claro_module files that may be used for
     // monomorphization of generic procedures from direct and transitive dep modules.
@@ -168,6 +188,8 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
               ));
     }
 
+    ProgramNode.concurrentLeafProcedureValidation = options.concurrent_leaf_procedure_validation;
+
     if (options.expect_errors) {
       // Return a successful exit code since in this case the user expects the errors.
       this.ERR_EXIT_CODE = 0;
@@ -296,10 +318,9 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
       // dep modules are referencing in its exported types and procedure signatures.
       {
         ImmutableList.Builder<SerializedClaroModule> transitiveModules = ImmutableList.builder();
-        for (SrcFile transitiveDepModuleSrcFile : this.TRANSITIVE_MODULE_DEPS) {
-          SerializedClaroModule parsedModule =
-              SerializedClaroModule.parseDelimitedFrom(transitiveDepModuleSrcFile.getFileInputStream());
+        for (SerializedClaroModule parsedModule : parseDepModulesConcurrently(this.TRANSITIVE_MODULE_DEPS.asList())) {
           transitiveModules.add(parsedModule);
+          recordParsedDepModuleSrcPaths(parsedModule);
           importedContractDefinitionStmts.addAll(
               registerDepModuleExportedTypes(scopedHeap, Optional.empty(), parsedModule));
           registerDepModuleExportedTypeInitializersAndUnwrappers(scopedHeap, Optional.empty(), parsedModule);
@@ -380,6 +401,9 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
               mainSrcFileProgramNode.generateTargetOutput(Target.JAVA_SOURCE, scopedHeap, StdLibUtil::registerIdentifiers);
         }
         if (Expr.typeErrorsFound.isEmpty() && ProgramNode.miscErrorsFound.isEmpty()) {
+          if (this.OPTIONAL_UNUSED_INPUTS_LIST_FILE_PATH.isPresent() && !DEP_MODULE_MONOMORPHIZATION_ENABLED) {
+            writeUnusedInputsList(this.OPTIONAL_UNUSED_INPUTS_LIST_FILE_PATH.get());
+          }
           if (optionalModuleApiParser.isPresent()) {
             if (DEP_MODULE_MONOMORPHIZATION_ENABLED) {
               // In this case we're intentionally avoiding doing any file writing for the compilation results, as for
@@ -405,6 +429,17 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
               try (FileWriter outputFileWriter = new FileWriter(createOutputFile())) {
                 outputFileWriter.write(generateTargetOutputRes.toString());
               }
+              // The codegen'd Java source above is still emitted for debugging, but the class files may be emitted
+              // directly as well so that the build doesn't need a separate javac action.
+              if (this.OPTIONAL_CLASSFILES_JAR_OUTPUT_PATH.isPresent()) {
+                JvmClassFileEmitter.emitClassFilesJar(
+                    this.PACKAGE_STRING.get(),
+                    this.GENERATED_CLASSNAME.get(),
+                    generateTargetOutputRes.toString(),
+                    this.CLASSPATH,
+                    this.OPTIONAL_CLASSFILES_JAR_OUTPUT_PATH.get()
+                );
+              }
             } else {
               // Here, we were simply asked to codegen an executable Claro program. Output the codegen'd Java source to
               // stdout directly where it will be piped by Claro's Bazel rules into the appropriate .java file.
@@ -452,6 +487,66 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
         "Internal Compiler Error! Should be unreachable. JavaSourceCompilerBackend failed to exit with explicit error code.");
   }
 
+  // Decoding the dep module protos is the one part of dep module setup that's truly independent per module, and for
+  // modules w/ large export surfaces it's a noticeable chunk of each compilation. So they're all decoded concurrently up
+  // front, while everything that registers symbols into the ScopedHeap still happens sequentially in the original order.
+  // TODO(steving) Procedure body type validation is the much bigger prize, but so far only leaf procedures are validated
+  //   concurrently, see the TODO on ProgramNode::performProcedureTypeValidationPhase for what's still blocking the rest.
+  private static ImmutableList<SerializedClaroModule> parseDepModulesConcurrently(ImmutableList<SrcFile> depModules) {
+    return depModules.parallelStream()
+        .map(depModule -> {
+          try (InputStream depModuleInputStream = depModule.getFileInputStream()) {
+            return SerializedClaroModule.parseDelimitedFrom(depModuleInputStream);
+          } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse dep module: " + depModule.getPath(), e);
+          }
+        })
+        // Parallel streams still preserve encounter order when collecting to a list.
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private void recordParsedDepModuleSrcPaths(SerializedClaroModule parsedModule) {
+    // The command line args are recorded exactly as they were passed to the compiler, so each `--src` flag is followed
+    // by its path as a separate arg.
+    List<String> commandLineArgs = parsedModule.getCommandLineArgsList();
+    for (int i = 0; i < commandLineArgs.size() - 1; i++) {
+      if (commandLineArgs.get(i).equals("--src")) {
+        this.parsedDepModulesSrcPaths.add(commandLineArgs.get(++i));
+      }
+    }
+  }
+
+  // Bazel treats every .claro_module file in this compilation unit's dep graph (and all of their srcs) as inputs since
+  // any of them *may* be needed by dep module monomorphization. However, in the (very common) case that this
+  // compilation unit didn't actually need any dep module monomorphizations, then none of the dep graph modules that
+  // weren't directly read here could possibly have affected the output. Reporting these as unused allows Bazel to skip
+  // rerunning this compilation when those modules change.
+  private void writeUnusedInputsList(String unusedInputsListFilePath) throws IOException {
+    ImmutableSet<String> unusedInputs = ImmutableSet.of();
+    // Conservatively assume that *everything* is used if any monomorphization was required, as the subprocesses will
+    // read arbitrary transitive dep modules and srcs on this compilation unit's behalf.
+    if (InternalStaticStateUtil.JavaSourceCompilerBackend_depModuleGenericMonomoprhizationsNeeded.isEmpty()
+        && MonomorphizationCoordinator.DEP_GRAPH_CLARO_MODULE_PATHS_BY_UNIQUE_MODULE_NAME != null) {
+      ImmutableSet<String> directlyReadDepModulePaths =
+          Streams.concat(this.MODULE_DEPS.values().stream(), this.TRANSITIVE_MODULE_DEPS.stream())
+              .map(SrcFile::getPath)
+              .collect(ImmutableSet.toImmutableSet());
+      unusedInputs =
+          Streams.concat(
+                  MonomorphizationCoordinator.DEP_GRAPH_CLARO_MODULE_PATHS_BY_UNIQUE_MODULE_NAME.values().stream()
+                      .filter(p -> !directlyReadDepModulePaths.contains(p)),
+                  this.parsedDepModulesSrcPaths.build().stream()
+              )
+              .collect(ImmutableSet.toImmutableSet());
+    }
+    try (FileWriter unusedInputsListWriter = new FileWriter(createUnusedInputsListFile(unusedInputsListFilePath))) {
+      for (String unusedInput : unusedInputs) {
+        unusedInputsListWriter.write(unusedInput);
+        unusedInputsListWriter.write('\n');
+      }
+    }
+  }
+
   private ImmutableList<ContractDefinitionStmt> setupModuleDepBindings(
       ScopedHeap scopedHeap, ImmutableMap<String, SrcFile> moduleDeps) throws Exception {
     ImmutableMap.Builder<String, SerializedClaroModule> parsedClaroModuleProtosBuilder = ImmutableMap.builder();
@@ -459,11 +554,13 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
     // Setup dep module exported types.
     {
       ImmutableList.Builder<SerializedClaroModule> parsedModulesBuilder = ImmutableList.builder();
+      ImmutableList<SerializedClaroModule> decodedModules = parseDepModulesConcurrently(moduleDeps.values().asList());
+      int depModuleIndex = 0;
       for (Map.Entry<String, SrcFile> moduleDep : moduleDeps.entrySet()) {
-        SerializedClaroModule parsedModule =
-            SerializedClaroModule.parseDelimitedFrom(moduleDep.getValue().getFileInputStream());
+        SerializedClaroModule parsedModule = decodedModules.get(depModuleIndex++);
         parsedModulesBuilder.add(parsedModule);
         parsedClaroModuleProtosBuilder.put(moduleDep.getKey(), parsedModule);
+        recordParsedDepModuleSrcPaths(parsedModule);
 
         // First thing, register this dep module somewhere central that can be referenced by both codegen and the parsers.
         ScopedHeap.currProgramDepModules.put(moduleDep.getKey(), /*isUsed=*/false, parsedModule.getModuleDescriptor());
@@ -565,36 +662,49 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
         ));
 
     // Make note of any monomorphizations that the dep modules have already codegend so that work can be skipped here.
-    HashMap<String, ImmutableListMultimap.Builder<String, ImmutableList<Type>>>
+    HashMap<String, ImmutableSetMultimap.Builder<String, ImmutableList<TypeProtos.TypeProto>>>
         depsClosureCodegendMonmorphizationsBuilder = Maps.newHashMap();
     for (Map.Entry<String, SerializedClaroModule> moduleDep : parsedClaroModuleProtos.entrySet()) {
       for (Map.Entry<String, SerializedClaroModule.CodegendMonomorphizationsList> monomorphizations
           : moduleDep.getValue().getCodegendMonomorphizationsTransitiveClosureByUniqueModuleNameMap().entrySet()) {
         depsClosureCodegendMonmorphizationsBuilder.putIfAbsent(
-            monomorphizations.getKey(), ImmutableListMultimap.builder());
-        monomorphizations.getValue().getMonomorphizationsList().forEach(m -> {
-          String procName = m.getProcedureName();
-          depsClosureCodegendMonmorphizationsBuilder.get(monomorphizations.getKey()).put(
-              procName,
-              m.getConcreteTypeParamsList().stream()
-                  .map(Types::parseTypeProto)
-                  .collect(ImmutableList.toImmutableList())
-          );
-        });
+            monomorphizations.getKey(), ImmutableSetMultimap.builder());
+        monomorphizations.getValue().getMonomorphizationsList().forEach(
+            m -> depsClosureCodegendMonmorphizationsBuilder.get(monomorphizations.getKey()).put(
+                m.getProcedureName(), ImmutableList.copyOf(m.getConcreteTypeParamsList())));
       }
     }
     JavaSourceCompilerBackend.depsClosureCodegendMonomorphizationsByModuleAndProc =
         depsClosureCodegendMonmorphizationsBuilder.entrySet().stream().collect(
-            ImmutableMap.toImmutableMap(
-                Map.Entry::getKey,
-                e -> e.getValue().build().asMap().entrySet().stream().collect(ImmutableMap.toImmutableMap(
-                    Map.Entry::getKey,
-                    e2 -> ImmutableSet.copyOf(e2.getValue())
-                ))
-            ));
+            ImmutableMap.toImmutableMap(Map.Entry::getKey, e -> e.getValue().build()));
     return importedContractDefinitionStmts.build();
   }
 
+  // The lookup must be done in terms of parsed Types rather than by comparing TypeProtos directly, as Type equality is
+  // looser than proto equality (e.g. oneof variants are unordered, and procedure types ignore required contracts and
+  // generic arg names). Comparing protos would miss monomorphizations that were in fact already codegend.
+  private static boolean isDepModuleMonomorphizationAlreadyCodegend(
+      String uniqueModuleName, String procedureName, ImmutableList<Type> concreteTypeParams) {
+    ImmutableSetMultimap<String, ImmutableList<TypeProtos.TypeProto>> codegendMonomorphizations =
+        depsClosureCodegendMonomorphizationsByModuleAndProc.get(uniqueModuleName);
+    if (codegendMonomorphizations == null || !codegendMonomorphizations.containsKey(procedureName)) {
+      return false;
+    }
+    ImmutableSet<ImmutableList<Type>> parsedMonomorphizations =
+        parsedDepsClosureCodegendMonomorphizationsByModuleAndProc.get(uniqueModuleName, procedureName);
+    if (parsedMonomorphizations == null) {
+      parsedMonomorphizations =
+          codegendMonomorphizations.get(procedureName).stream()
+              .map(typeParams -> typeParams.stream()
+                  .map(Types::parseTypeProto)
+                  .collect(ImmutableList.toImmutableList()))
+              .collect(ImmutableSet.toImmutableSet());
+      parsedDepsClosureCodegendMonomorphizationsByModuleAndProc.put(
+          uniqueModuleName, procedureName, parsedMonomorphizations);
+    }
+    return parsedMonomorphizations.contains(concreteTypeParams);
+  }
+
   private static ProcedureDefinitionStmt syntheticProcedureDefStmt = null;
 
   private static BiFunction<ScopedHeap, ImmutableMap<Type, Type>, String> maybeSetupGenericDepModuleProcedure(
@@ -627,12 +737,11 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
 
             // Don't need to duplicate codegen of some monomorphization that was already generated by a downstream
             // module. This is actually a significant compilation performance optimization.
-            if (Optional.ofNullable(
-                    depsClosureCodegendMonomorphizationsByModuleAndProc.get(
-                        ScopedHeap.getDefiningModuleDisambiguator(Optional.of(depModuleName))))
-                .flatMap(m -> Optional.ofNullable(m.get(depExportedProc.getName())))
-                .map(typeParams -> !typeParams.contains(orderedConcreteTypeParams))
-                .orElse(true)) {
+            if (!isDepModuleMonomorphizationAlreadyCodegend(
+                ScopedHeap.getDefiningModuleDisambiguator(Optional.of(depModuleName)),
+                depExportedProc.getName(),
+                orderedConcreteTypeParams
+            )) {
               // Make note of this needed dep module monomorphization somewhere so that just before finalizing codegen
               // we can trigger dep module monomorphization.
               InternalStaticStateUtil.JavaSourceCompilerBackend_depModuleGenericMonomoprhizationsNeeded.put(
@@ -1097,6 +1206,19 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
     return outputFile;
   }
 
+  private static File createUnusedInputsListFile(String unusedInputsListFilePath) {
+    File unusedInputsListFile = new File(unusedInputsListFilePath);
+    try {
+      unusedInputsListFile.createNewFile();
+    } catch (IOException e) {
+      System.err.println("An error occurred while trying to open/create the specified unused inputs list file: " +
+                         unusedInputsListFilePath);
+      e.printStackTrace();
+      System.exit(1);
+    }
+    return unusedInputsListFile;
+  }
+
   private void serializeClaroModule(
       String projectPackage,
       String uniqueModuleName,
@@ -1313,19 +1435,12 @@ public class JavaSourceCompilerBackend implements CompilerBackend {
                 // module as a dependency.
                 Streams.concat(
                         JavaSourceCompilerBackend.depsClosureCodegendMonomorphizationsByModuleAndProc.entrySet().stream()
-                            .flatMap(procsByDepModule -> procsByDepModule.getValue().entrySet().stream()
-                                .flatMap(typeParamsByProc ->
-                                             typeParamsByProc.getValue().stream().map(
-                                                 typeParams ->
-                                                     ImmutableList.of(
-                                                         procsByDepModule.getKey(),
-                                                         ImmutableList.of(
-                                                             typeParamsByProc.getKey(),
-                                                             typeParams.stream()
-                                                                 .map(Type::toProto)
-                                                                 .collect(ImmutableList.toImmutableList())
-                                                         )
-                                                     )))),
+                            .flatMap(procsByDepModule -> procsByDepModule.getValue().entries().stream()
+                                .map(typeParamsByProc ->
+                                         ImmutableList.of(
+                                             procsByDepModule.getKey(),
+                                             ImmutableList.of(typeParamsByProc.getKey(), typeParamsByProc.getValue())
+                                         ))),
                         MonomorphizationCoordinator.monomorphizationsByModuleAndRequestCache.cellSet().stream()
                             .map(c -> ImmutableList.of(
                                 c.getRowKey(),
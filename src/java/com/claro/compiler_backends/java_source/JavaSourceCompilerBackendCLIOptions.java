@@ -63,7 +63,8 @@ public class JavaSourceCompilerBackendCLIOptions extends OptionsBase {
   @Option(
       name = "dep",
       help = "A string in the format '<module_name>:<claro_module_file_path>' representing the binding of a concrete " +
-             "Module dependency directly depended upon by the .claro srcs in this claro_binary() or claro_module().",
+             "Module dependency directly depended upon by the .claro srcs in this claro_binary() or claro_module(). " +
+             "The given file may also be a .claro_module_interface file, which omits the module's implementation.",
       allowMultiple = true,
       defaultValue = ""
   )
@@ -138,6 +139,16 @@ public class JavaSourceCompilerBackendCLIOptions extends OptionsBase {
   )
   public String output_file_path;
 
+  @Option(
+      name = "unused_inputs_list_out",
+      help = "Optional path to a file where the compiler will list the paths of any dep graph .claro_module files (and " +
+             "their srcs) that it didn't actually need to read during this compilation. This allows Bazel to prune " +
+             "those inputs from this compilation's action cache key so that implementation-only changes in modules " +
+             "that weren't needed for dep module monomorphization don't trigger recompilation of this compilation unit.",
+      defaultValue = ""
+  )
+  public String unused_inputs_list_out;
+
   @Option(
       name = "expect_errors",
       help = "Internal Only! This is used to indicate that errors are expected and so stderr will be redirected to " +
@@ -145,4 +156,30 @@ public class JavaSourceCompilerBackendCLIOptions extends OptionsBase {
       defaultValue = "false"
   )
   public boolean expect_errors;
+
+  @Option(
+      name = "classfiles_jar_out",
+      help = "Optional path to a jar file where the compiler will directly emit the compiled .class files for a " +
+             "claro_binary()'s main class, so that no separate javac action is needed. The codegen'd Java source is " +
+             "still emitted as usual for debugging purposes.",
+      defaultValue = ""
+  )
+  public String classfiles_jar_out;
+
+  @Option(
+      name = "classpath",
+      help = "A jar file needed on the classpath in order to compile the main class when --classfiles_jar_out is set.",
+      allowMultiple = true,
+      defaultValue = ""
+  )
+  public List<String> classpath;
+
+  @Option(
+      name = "concurrent_leaf_procedure_validation",
+      help = "Opt-in to validating the bodies of \"leaf\" procedures (those that make no procedure calls and only " +
+             "reference their own args and locals) concurrently, ahead of the sequential procedure type validation " +
+             "phase. Type errors are still reported in source order.",
+      defaultValue = "false"
+  )
+  public boolean concurrent_leaf_procedure_validation;
 }
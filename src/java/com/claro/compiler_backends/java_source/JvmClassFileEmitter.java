@@ -0,0 +1,97 @@
+package com.claro.compiler_backends.java_source;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.tools.*;
+import java.io.*;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+// This is the first incremental step towards a direct JVM bytecode backend. Rather than handing the codegen'd Java
+// source off to a separate javac action, the main class is compiled in-process, entirely in memory, and the resulting
+// .class files are emitted directly as a jar. The codegen'd Java source is still produced for debugging purposes.
+// TODO(steving) Replace the in-process javac with actual bytecode generation from the Node tree once there's a bytecode
+//   library available on the JDK Claro targets. That'll start w/ the main class's static Claro procedure defs.
+public class JvmClassFileEmitter {
+  // Jar entries must all share a fixed timestamp so that the emitted jar is reproducible across builds.
+  private static final long DETERMINISTIC_JAR_ENTRY_TIME_MILLIS = 315561600000L; // 1980-01-01T00:00:00Z
+
+  public static void emitClassFilesJar(
+      String packageString,
+      String className,
+      String javaSource,
+      ImmutableList<String> classpath,
+      String jarOutputPath) throws IOException {
+    JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+    if (javac == null) {
+      throw new IllegalStateException(
+          "Internal Compiler Error! Emitting class files requires the Claro compiler to be run on a full JDK.");
+    }
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    InMemoryClassFileManager fileManager =
+        new InMemoryClassFileManager(javac.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8));
+    JavaFileObject mainClassSource = new SimpleJavaFileObject(
+        URI.create(String.format("string:///%s/%s.java", packageString.replace('.', '/'), className)),
+        JavaFileObject.Kind.SOURCE
+    ) {
+      @Override
+      public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+        return javaSource;
+      }
+    };
+    ImmutableList.Builder<String> javacOptions =
+        ImmutableList.<String>builder().add("-proc:none", "-nowarn", "-g");
+    if (!classpath.isEmpty()) {
+      javacOptions.add("-classpath", String.join(File.pathSeparator, classpath));
+    }
+    boolean success =
+        javac.getTask(null, fileManager, diagnostics, javacOptions.build(), null, ImmutableList.of(mainClassSource))
+            .call();
+    if (!success) {
+      // Any failure here is a bug in Claro's codegen rather than in the user's program, which was already validated.
+      throw new IllegalStateException(
+          "Internal Compiler Error! Failed to compile codegen'd Java source:\n" +
+          diagnostics.getDiagnostics().stream()
+              .map(d -> d.getMessage(Locale.ROOT))
+              .collect(Collectors.joining("\n")));
+    }
+
+    try (JarOutputStream jarOutputStream =
+             new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(Paths.get(jarOutputPath))))) {
+      // Sorted so that the emitted jar is reproducible.
+      for (Map.Entry<String, ByteArrayOutputStream> classFile : new TreeMap<>(fileManager.classFiles).entrySet()) {
+        JarEntry jarEntry = new JarEntry(classFile.getKey().replace('.', '/') + ".class");
+        jarEntry.setTime(DETERMINISTIC_JAR_ENTRY_TIME_MILLIS);
+        jarOutputStream.putNextEntry(jarEntry);
+        classFile.getValue().writeTo(jarOutputStream);
+        jarOutputStream.closeEntry();
+      }
+    }
+  }
+
+  private static class InMemoryClassFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+    private final HashMap<String, ByteArrayOutputStream> classFiles = new HashMap<>();
+
+    InMemoryClassFileManager(StandardJavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+      return new SimpleJavaFileObject(
+          URI.create(String.format("mem:///%s%s", className.replace('.', '/'), kind.extension)), kind) {
+        @Override
+        public OutputStream openOutputStream() {
+          return classFiles.computeIfAbsent(className, unused -> new ByteArrayOutputStream());
+        }
+      };
+    }
+  }
+}
@@ -4,9 +4,11 @@ import com.claro.module_system.module_serialization.proto.SerializedClaroModule;
 import com.google.devtools.common.options.Option;
 import com.google.devtools.common.options.OptionsBase;
 import com.google.devtools.common.options.OptionsParser;
+import com.google.protobuf.CodedOutputStream;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
@@ -39,6 +41,46 @@ public class ClaroModuleDeserializationUtil {
       e.printStackTrace();
       System.exit(1);
     }
+
+    if (!options.claroModuleInterfaceOutFilePath.isEmpty()) {
+      try (OutputStream interfaceOut =
+               Files.newOutputStream(createOutputFile(options.claroModuleInterfaceOutFilePath).toPath())) {
+        writeClaroModuleInterface(claroModule, interfaceOut);
+      } catch (IOException e) {
+        System.err.println(
+            "Error: Unable to open given output file for writing: " + options.claroModuleInterfaceOutFilePath);
+        e.printStackTrace();
+        System.exit(1);
+      }
+    }
+  }
+
+  // The module's interface is everything that a dependent compilation unit actually reads from a direct (or exported
+  // transitive) dep module. So, the implementation details (the static java codegen and the impl srcs that are only
+  // needed for dep module monomorphization) are dropped, allowing Bazel to skip recompiling dependents entirely when
+  // the interface comes out byte-for-byte identical. Note that this is *not* the case for every implementation-only
+  // change, as two fields that dependents genuinely read are kept:
+  //   - codegend_monomorphizations_transitive_closure_by_unique_module_name: dependents skip codegen of any
+  //     monomorphization already codegend in their dep graph, so a procedure body that starts (or stops) calling some
+  //     generic procedure w/ new concrete type params changes the interface and will invalidate dependents.
+  //   - command_line_args: dependents recover the dep module's srcs from these to report them as unused inputs. These
+  //     only change when the module's BUILD target changes, never when just its srcs' contents change.
+  // So in practice, the interface is stable under edits to procedure bodies that don't change the set of generic
+  // procedure monomorphizations that the module needs.
+  private static void writeClaroModuleInterface(SerializedClaroModule claroModule, OutputStream out)
+      throws IOException {
+    SerializedClaroModule claroModuleInterface =
+        claroModule.toBuilder()
+            .clearStaticJavaCodegen()
+            .clearModuleImplFiles()
+            .build();
+    // Deterministic serialization is necessary here as map fields are otherwise free to serialize in any order, which
+    // would defeat the entire purpose of producing a stable interface file.
+    CodedOutputStream codedOut = CodedOutputStream.newInstance(out);
+    codedOut.useDeterministicSerialization();
+    codedOut.writeUInt32NoTag(claroModuleInterface.getSerializedSize());
+    claroModuleInterface.writeTo(codedOut);
+    codedOut.flush();
   }
 
   private static CLIOptions parseCLIOptions(String... args) {
@@ -80,5 +122,12 @@ public class ClaroModuleDeserializationUtil {
         defaultValue = ""
     )
     public String staticJavaOutFilePath;
+    @Option(
+        name = "claro_module_interface_out",
+        help = "Optional path to the output file to write the .claro_module_interface file derived from the given " +
+               ".claro_module file. This contains everything but the module's implementation details.",
+        defaultValue = ""
+    )
+    public String claroModuleInterfaceOutFilePath;
   }
 }
@@ -40,6 +40,8 @@ public class MonomorphizationRequestProcessing {
       } catch (InvalidProtocolBufferException e) {
         throw new RuntimeException("Internal Compiler Error! Failed to parse MonomorphizationRequest!", e);
       }
+      // Nothing from a prior request's codegen may leak into this one.
+      InternalStaticStateUtil.resetRuntimeTypeConstants();
 
       // First things first, this monomorphization may need its GenericFunctionDefinition type checked as setup in case
       // this is the first monomorphization request coming in for this particular procedure.
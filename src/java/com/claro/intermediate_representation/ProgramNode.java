@@ -3,12 +3,20 @@ package com.claro.intermediate_representation;
 import com.claro.compiler_backends.interpreted.ScopedHeap;
 import com.claro.compiler_backends.java_source.monomorphization.MonomorphizationCoordinator;
 import com.claro.compiler_backends.java_source.monomorphization.proto.ipc_protos.IPCMessages;
+import com.claro.intermediate_representation.expressions.CopyExpr;
+import com.claro.intermediate_representation.expressions.DecrementExpr;
 import com.claro.intermediate_representation.expressions.Expr;
+import com.claro.intermediate_representation.expressions.IncrementExpr;
+import com.claro.intermediate_representation.expressions.ParenthesizedExpr;
+import com.claro.intermediate_representation.expressions.bool.*;
+import com.claro.intermediate_representation.expressions.numeric.*;
+import com.claro.intermediate_representation.expressions.procedures.functions.FunctionCallExpr;
 import com.claro.intermediate_representation.expressions.procedures.functions.StructuralConcreteGenericTypeValidationUtil;
 import com.claro.intermediate_representation.statements.*;
 import com.claro.intermediate_representation.statements.contracts.ContractDefinitionStmt;
 import com.claro.intermediate_representation.statements.contracts.ContractImplementationStmt;
 import com.claro.intermediate_representation.statements.contracts.ContractProcedureImplementationStmt;
+import com.claro.intermediate_representation.expressions.term.*;
 import com.claro.intermediate_representation.statements.user_defined_type_def_stmts.*;
 import com.claro.intermediate_representation.types.BaseType;
 import com.claro.intermediate_representation.types.ClaroTypeException;
@@ -34,6 +42,8 @@ public class ProgramNode {
   public static ImmutableSetMultimap<String, SerializedClaroModule.ExportedFlagDefinitions.ExportedFlag>
       transitiveExportedFlags;
   public static ImmutableMap<String, String> resourcesByName;
+  // Opt-in (--concurrent_leaf_procedure_validation) until the concurrent procedure type validation phase has more miles.
+  public static boolean concurrentLeafProcedureValidation = false;
 
   // By default, don't support any StdLib.
   private Function<ScopedHeap, ImmutableList<Stmt>> setupStdLibFn = s -> ImmutableList.of();
@@ -48,6 +58,16 @@ public class ProgramNode {
     this.generatedClassName = generatedClassName;
     InternalStaticStateUtil.optionalGeneratedClassName = Optional.of(generatedClassName);
 
+    // `parallel` comprehensions may only call procedures that are provably side-effect free.
+    InternalStaticStateUtil.ProgramNode_isProvablySideEffectFreeProcedureCallFn =
+        (procedureName, procedureType) -> {
+          Stmt procedureDefStmt = ((Types.ProcedureType) procedureType).getProcedureDefStmt();
+          return procedureDefStmt != null
+                 && isLeafProcedure(procedureDefStmt)
+                 // Otherwise this is actually a first-class call through a variable that happens to share its type.
+                 && ((ProcedureDefinitionStmt) procedureDefStmt).procedureName.equals(procedureName);
+        };
+
     // TODO(steving) Fix this hot garbage.
     Expr.StructuralConcreteGenericTypeValidationUtil_validateArgExprsAndExtractConcreteGenericTypeParams_ONLY_USE_BC_MY_BAZEL_SETUP_IS_BJORKED_AND_I_DONT_HAVE_TIME_TO_FIX_THE_CIRCULAR_DEPS
         = (expected, actual) -> {
@@ -121,6 +141,11 @@ public class ProgramNode {
       performStaticValueProviderValidationPhase(scopedHeap);
     }
 
+    // CONCURRENT LEAF PROCEDURE TYPE VALIDATION PHASE:
+    if (ProgramNode.concurrentLeafProcedureValidation) {
+      performConcurrentLeafProcedureTypeValidationPhase(scopedHeap);
+    }
+
     // PROCEDURE TYPE VALIDATION PHASE:
     runPhaseOverAllProgramFiles(p -> p.performProcedureTypeValidationPhase(p.stmtListNode, scopedHeap));
 
@@ -213,6 +238,11 @@ public class ProgramNode {
     // Refuse to do code-gen phase if there were any type validation errors.
     StringBuilder res = null; // I hate null but am also too lazy right now to refactor to Optional<StringBuilder>
     if (Expr.typeErrorsFound.isEmpty() && miscErrorsFound.isEmpty()) {
+      InternalStaticStateUtil.resetRuntimeTypeConstants();
+
+      // LOCALS OPTIMIZATION PHASE:
+      runPhaseOverAllProgramFiles(p -> optimizeLocals(p.stmtListNode, new HashSet<>()));
+
       // Begin codegen on all non-main src files.
       Node.GeneratedJavaSource programJavaSource = Node.GeneratedJavaSource.forJavaSourceBody(new StringBuilder());
       if (ProgramNode.moduleApiDef.isPresent()) {
@@ -655,6 +685,14 @@ public class ProgramNode {
     }
   }
 
+  // TODO(steving) Extend concurrent validation (see performConcurrentLeafProcedureTypeValidationPhase()) beyond leaf
+  //   procedures. That's not yet safe as procedure type validation is not actually independent per procedure body:
+  //     1. ProcedureDefinitionStmt::assertExpectedExprTypes recursively validates every (transitively) called procedure
+  //        in order to propagate used injected keys, required contracts, and blocking-ness back up to the caller.
+  //     2. Validation still communicates through compiler-global static state (most of InternalStaticStateUtil) and
+  //        marks shared global scope Identifiers used/initialized in place.
+  //     3. Calls to generic procedures trigger monomorphization registration into static tables during validation.
+  //     4. Oneof narrowing mutates the narrowed Type in place, and that Type may be shared across procedure signatures.
   private void performProcedureTypeValidationPhase(StmtListNode stmtListNode, ScopedHeap scopedHeap) {
     // Do type validation on all remaining ProcedureDefStmts (note that ProcedureDefStmts automatically short-circuit if
     // their type validation method is called more than once, so this isn't actually duplicating the above work).
@@ -675,6 +713,336 @@ public class ProgramNode {
     }
   }
 
+  // Validates the bodies of all "leaf" procedures (see isLeafProcedure()) concurrently, each over a private ScopedHeap whose Scopes overlay the
+  // (by now frozen) global Scopes. A leaf procedure is one whose body is built exclusively from nodes that are known to
+  // only consult the given ScopedHeap during type validation, so in particular it makes no procedure calls and no
+  // references to anything outside its own args and locals. Type errors are buffered per-task and merged back into
+  // Expr.typeErrorsFound in source order so that error reporting stays deterministic. Every leaf procedure is marked as
+  // having already been validated, so the sequential PROCEDURE TYPE VALIDATION PHASE will simply skip over them.
+  private void performConcurrentLeafProcedureTypeValidationPhase(ScopedHeap scopedHeap) {
+    ImmutableList.Builder<ProcedureDefinitionStmt> leafProceduresBuilder = ImmutableList.builder();
+    runPhaseOverAllProgramFiles(p -> {
+      StmtListNode currStmtListNode = p.stmtListNode;
+      while (currStmtListNode != null) {
+        Stmt currStmt = (Stmt) currStmtListNode.getChildren().get(0);
+        if (isLeafProcedure(currStmt) && ((ProcedureDefinitionStmt) currStmt).hasConcurrentlyValidatableSignature()) {
+          leafProceduresBuilder.add((ProcedureDefinitionStmt) currStmt);
+        }
+        currStmtListNode = currStmtListNode.tail;
+      }
+    });
+    ImmutableList<ProcedureDefinitionStmt> leafProcedures = leafProceduresBuilder.build();
+    if (leafProcedures.size() < 2) {
+      return; // Not worth the overhead, just leave it to the sequential phase.
+    }
+
+    ImmutableList<ConcurrentProcedureTypeValidationResult> results =
+        leafProcedures.parallelStream()
+            .map(leafProcedure -> {
+              ScopedHeap taskScopedHeap = new ScopedHeap();
+              taskScopedHeap.scopeStack.addAll(scopedHeap.scopeStack);
+              taskScopedHeap.checkUnused = scopedHeap.checkUnused;
+              Stack<Consumer<String>> taskTypeErrorsFound = new Stack<>();
+              Expr.concurrentTaskTypeErrorsFound.set(taskTypeErrorsFound);
+              try {
+                leafProcedure.assertExpectedExprTypesConcurrently(taskScopedHeap);
+                return new ConcurrentProcedureTypeValidationResult(taskTypeErrorsFound, Optional.empty());
+              } catch (ClaroTypeException e) {
+                // Matching the sequential phase below.
+                return new ConcurrentProcedureTypeValidationResult(
+                    taskTypeErrorsFound, Optional.of(new RuntimeException(e)));
+              } catch (RuntimeException e) {
+                return new ConcurrentProcedureTypeValidationResult(taskTypeErrorsFound, Optional.of(e));
+              } finally {
+                // These threads are pooled, so don't let anything leak into whatever they run next.
+                Expr.concurrentTaskTypeErrorsFound.remove();
+                ReturnStmt.exitProcedureScope();
+                InternalStaticStateUtil.IfStmt_withinConditionTypeValidation.set(false);
+              }
+            })
+            .collect(ImmutableList.toImmutableList());
+
+    // Merge in source order, exactly as if these had been validated sequentially.
+    for (ConcurrentProcedureTypeValidationResult result : results) {
+      Expr.typeErrorsFound.addAll(result.typeErrorsFound);
+      if (result.optionalFailure.isPresent()) {
+        throw result.optionalFailure.get();
+      }
+    }
+  }
+
+  private static final class ConcurrentProcedureTypeValidationResult {
+    private final Stack<Consumer<String>> typeErrorsFound;
+    private final Optional<RuntimeException> optionalFailure;
+
+    private ConcurrentProcedureTypeValidationResult(
+        Stack<Consumer<String>> typeErrorsFound, Optional<RuntimeException> optionalFailure) {
+      this.typeErrorsFound = typeErrorsFound;
+      this.optionalFailure = optionalFailure;
+    }
+  }
+
+  // Exact classes only, subclasses (e.g. GraphFunctionDefinitionStmt) all do more during validation.
+  private static final ImmutableSet<Class<? extends Stmt>> LEAF_PROCEDURE_DEFINITION_STMT_TYPES =
+      ImmutableSet.of(
+          FunctionDefinitionStmt.class, ConsumerFunctionDefinitionStmt.class, ProviderFunctionDefinitionStmt.class);
+  // Exprs whose type validation only recurses into their children and never touches anything outside of the given
+  // ScopedHeap.
+  private static final ImmutableSet<Class<? extends Expr>> LEAF_PROCEDURE_EXPR_TYPES =
+      ImmutableSet.of(
+          IntegerTerm.class, LongTerm.class, FloatTerm.class, DoubleTerm.class, StringTerm.class, CharTerm.class,
+          TrueTerm.class, FalseTerm.class, ParenthesizedExpr.class,
+          AddNumericExpr.class, SubtractNumericExpr.class, MultiplyNumericExpr.class, DivideNumericExpr.class,
+          ModulusNumericExpr.class, NegateNumericExpr.class, ExponentiateNumericExpr.class, LogNumericExpr.class,
+          AndBoolExpr.class, OrBoolExpr.class, NotBoolExpr.class, EqualsBoolExpr.class, NotEqualsBoolExpr.class,
+          LessThanBoolExpr.class, LessThanOrEqualToBoolExpr.class, GreaterThanBoolExpr.class,
+          GreaterThanOrEqualToBoolExpr.class
+      );
+
+  // Leaf procedures are also provably side-effect free, as they can't call anything and may only assign to locals.
+  private static boolean isLeafProcedure(Stmt stmt) {
+    if (!LEAF_PROCEDURE_DEFINITION_STMT_TYPES.contains(stmt.getClass())) {
+      return false;
+    }
+    ProcedureDefinitionStmt procedureDefinitionStmt = (ProcedureDefinitionStmt) stmt;
+    return procedureDefinitionStmt.hasLeafProcedureSignature()
+           && isLeafProcedureBody(
+        (StmtListNode) procedureDefinitionStmt.getChildren().get(0), procedureDefinitionStmt.getArgNames());
+  }
+
+  private static boolean isLeafProcedureBody(StmtListNode stmtListNode, Set<String> visibleLocalNames) {
+    // Copied so that declarations within this block don't leak out to the enclosing block.
+    HashSet<String> localNames = new HashSet<>(visibleLocalNames);
+    StmtListNode currStmtListNode = stmtListNode;
+    while (currStmtListNode != null) {
+      Stmt currStmt = (Stmt) currStmtListNode.getChildren().get(0);
+      if (currStmt.getClass() == DeclarationStmt.class) {
+        DeclarationStmt declarationStmt = (DeclarationStmt) currStmt;
+        if (!declarationStmt.isPlainInferredTypeDeclaration()
+            || !isLeafProcedureExpr(declarationStmt.getChildren().get(0), localNames)) {
+          return false;
+        }
+        localNames.add(declarationStmt.getIdentifier());
+      } else if (currStmt.getClass() == AssignmentStmt.class) {
+        if (!localNames.contains(((AssignmentStmt) currStmt).getAssignedIdentifier())
+            || !isLeafProcedureExpr(currStmt.getChildren().get(0), localNames)) {
+          return false;
+        }
+      } else if (currStmt.getClass() == ReturnStmt.class) {
+        if (!currStmt.getChildren().stream().allMatch(child -> isLeafProcedureExpr(child, localNames))) {
+          return false;
+        }
+      } else if (currStmt.getClass() == IfStmt.class) {
+        for (IfStmt conditionClause : ((IfStmt) currStmt).getConditionClauses()) {
+          if (!isLeafProcedureExpr(conditionClause.getChildren().get(0), localNames)
+              || !isLeafProcedureBody((StmtListNode) conditionClause.getChildren().get(1), localNames)) {
+            return false;
+          }
+        }
+        Optional<StmtListNode> optionalElseClause = ((IfStmt) currStmt).getOptionalTerminalElseClause();
+        if (optionalElseClause.isPresent() && !isLeafProcedureBody(optionalElseClause.get(), localNames)) {
+          return false;
+        }
+      } else {
+        return false;
+      }
+      currStmtListNode = currStmtListNode.tail;
+    }
+    return true;
+  }
+
+  private static boolean isLeafProcedureExpr(Node expr, Set<String> localNames) {
+    if (expr.getClass() == IdentifierReferenceTerm.class) {
+      IdentifierReferenceTerm identifierReferenceTerm = (IdentifierReferenceTerm) expr;
+      return !identifierReferenceTerm.isDepModuleReference()
+             && localNames.contains(identifierReferenceTerm.identifier);
+    }
+    return LEAF_PROCEDURE_EXPR_TYPES.contains(expr.getClass())
+           && expr.getChildren().stream().allMatch(child -> isLeafProcedureExpr(child, localNames));
+  }
+
+  // Top-level definitions can't reference any of the main program's locals, so they're never a concern for the locals
+  // optimizations below.
+  private static final ImmutableSet<Class<? extends Stmt>> TOP_LEVEL_DEFINITION_STMT_TYPES =
+      ImmutableSet.of(
+          GenericFunctionDefinitionStmt.class, ContractDefinitionStmt.class, ContractImplementationStmt.class,
+          AliasStmt.class, NewTypeDefStmt.class, AtomDefinitionStmt.class, InitializersBlockStmt.class,
+          UnwrappersBlockStmt.class, FlagDefStmt.class, StaticValueDefStmt.class, HttpServiceDefStmt.class,
+          EndpointHandlersBlockStmt.class
+      );
+
+  // Optimizations over locals that depend on knowing every subsequent use of the local. This is only known for blocks
+  // whose Stmts/Exprs all hold their sub-nodes where this walk can see them, and codegen every identifier reference via
+  // IdentifierReferenceTerm. Anything else (e.g. lambdas or comprehensions which codegen captures by name) is treated
+  // conservatively as an unknown use of every local preceding it in the block. Currently this:
+  //   - Permits a primitive Java local (see DeclarationStmt#permitUnboxedJavaLocal()) for every declaration that's
+  //     only followed by known uses.
+  //   - Elides `copy(x)` (see CopyExpr#permitElidingCopyOfDeadLocal()) where `x` is a local initialized by a fresh
+  //     collection in the same block, that's neither used between its declaration and the copy nor at all afterwards.
+  // Returns whether every use within the given block was known, collecting all referenced identifiers along the way.
+  private static boolean optimizeLocals(StmtListNode stmtListNode, Set<String> referencedIdentifiers) {
+    ArrayList<Stmt> stmts = new ArrayList<>();
+    ArrayList<Boolean> stmtsSafe = new ArrayList<>();
+    ArrayList<Set<String>> stmtsReferencedIdentifiers = new ArrayList<>();
+    for (StmtListNode currStmtListNode = stmtListNode;
+         currStmtListNode != null;
+         currStmtListNode = currStmtListNode.tail) {
+      Stmt currStmt = (Stmt) currStmtListNode.getChildren().get(0);
+      HashSet<String> currStmtReferencedIdentifiers = new HashSet<>();
+      // Always walk the Stmt, as any nested blocks may have locals of their own.
+      stmts.add(currStmt);
+      stmtsSafe.add(isLocalsOptimizationSafeStmt(currStmt, currStmtReferencedIdentifiers));
+      stmtsReferencedIdentifiers.add(currStmtReferencedIdentifiers);
+      referencedIdentifiers.addAll(currStmtReferencedIdentifiers);
+    }
+    // Walk the block backwards so that it's already known whether everything following each Stmt is safe.
+    boolean remainingStmtsSafe = true;
+    HashSet<String> remainingReferencedIdentifiers = new HashSet<>();
+    for (int i = stmts.size() - 1; i >= 0; i--) {
+      Stmt currStmt = stmts.get(i);
+      if (remainingStmtsSafe) {
+        if (currStmt.getClass() == DeclarationStmt.class
+            && ((DeclarationStmt) currStmt).isUnboxedJavaLocalCandidate()) {
+          ((DeclarationStmt) currStmt).permitUnboxedJavaLocal();
+        }
+        maybePermitElidingCopyOfDeadLocal(stmts, stmtsSafe, stmtsReferencedIdentifiers, i, remainingReferencedIdentifiers);
+      }
+      remainingStmtsSafe = remainingStmtsSafe && stmtsSafe.get(i);
+      remainingReferencedIdentifiers.addAll(stmtsReferencedIdentifiers.get(i));
+    }
+    return remainingStmtsSafe;
+  }
+
+  private static void maybePermitElidingCopyOfDeadLocal(
+      ArrayList<Stmt> stmts,
+      ArrayList<Boolean> stmtsSafe,
+      ArrayList<Set<String>> stmtsReferencedIdentifiers,
+      int copyStmtIndex,
+      Set<String> remainingReferencedIdentifiers) {
+    Stmt copyStmt = stmts.get(copyStmtIndex);
+    if (!((copyStmt.getClass() == DeclarationStmt.class && !copyStmt.getChildren().isEmpty())
+          || copyStmt.getClass() == AssignmentStmt.class)) {
+      return;
+    }
+    Node copyExpr = unwrapParenthesizedExprs(copyStmt.getChildren().get(0));
+    if (copyExpr.getClass() != CopyExpr.class) {
+      return;
+    }
+    Node copiedExpr = unwrapParenthesizedExprs(((CopyExpr) copyExpr).getCopiedExpr());
+    if (copiedExpr.getClass() != IdentifierReferenceTerm.class
+        || ((IdentifierReferenceTerm) copiedExpr).isDepModuleReference()) {
+      return;
+    }
+    String copiedIdentifier = ((IdentifierReferenceTerm) copiedExpr).identifier;
+    if (remainingReferencedIdentifiers.contains(copiedIdentifier)) {
+      return; // Not dead after the copy.
+    }
+    for (int i = copyStmtIndex - 1; i >= 0; i--) {
+      Stmt currStmt = stmts.get(i);
+      if (currStmt.getClass() == DeclarationStmt.class
+          && ((DeclarationStmt) currStmt).getIdentifier().equals(copiedIdentifier)) {
+        // Only a freshly allocated value is known not to be aliased by anything other than the local itself.
+        if (!currStmt.getChildren().isEmpty()
+            && CopyExpr.isFreshlyAllocatedValue(unwrapParenthesizedExprs(currStmt.getChildren().get(0)))) {
+          ((CopyExpr) copyExpr).permitElidingCopyOfDeadLocal();
+        }
+        return;
+      }
+      if (!stmtsSafe.get(i) || stmtsReferencedIdentifiers.get(i).contains(copiedIdentifier)) {
+        return; // The local may have been aliased (or reassigned) before the copy.
+      }
+    }
+    // The copied identifier was declared outside of this block (e.g. it's a procedure arg), so it may be aliased.
+  }
+
+  private static Node unwrapParenthesizedExprs(Node expr) {
+    while (expr instanceof ParenthesizedExpr) {
+      expr = expr.getChildren().get(0);
+    }
+    return expr;
+  }
+
+  private static boolean isLocalsOptimizationSafeStmt(Stmt stmt, Set<String> referencedIdentifiers) {
+    if (LEAF_PROCEDURE_DEFINITION_STMT_TYPES.contains(stmt.getClass())) {
+      // The procedure can't reference the enclosing block's locals, but its body may have locals of its own.
+      optimizeLocals((StmtListNode) stmt.getChildren().get(0), new HashSet<>());
+      return true;
+    }
+    if (stmt instanceof ProcedureDefinitionStmt || TOP_LEVEL_DEFINITION_STMT_TYPES.contains(stmt.getClass())) {
+      return true;
+    }
+    if (stmt.getClass() == DeclarationStmt.class) {
+      return stmt.getChildren().isEmpty()
+             || (((DeclarationStmt) stmt).isUnboxedJavaLocalCandidate()
+                 && isLocalsOptimizationSafeExpr(stmt.getChildren().get(0), referencedIdentifiers));
+    }
+    if (stmt.getClass() == AssignmentStmt.class) {
+      referencedIdentifiers.add(((AssignmentStmt) stmt).getAssignedIdentifier());
+      return isLocalsOptimizationSafeExpr(stmt.getChildren().get(0), referencedIdentifiers);
+    }
+    if (stmt.getClass() == IncrementStmt.class || stmt.getClass() == DecrementStmt.class
+        || stmt.getClass() == ReturnStmt.class || stmt.getClass() == PrintStmt.class
+        || stmt.getClass() == BreakStmt.class || stmt.getClass() == ContinueStmt.class) {
+      return areLocalsOptimizationSafeExprs(stmt.getChildren(), referencedIdentifiers);
+    }
+    if (stmt.getClass() == ListElementAssignmentStmt.class
+        && !((ListElementAssignmentStmt) stmt).isErrorPropagating()) {
+      return areLocalsOptimizationSafeExprs(stmt.getChildren(), referencedIdentifiers);
+    }
+    if (stmt.getClass() == ConsumerFunctionCallStmt.class) {
+      return areLocalsOptimizationSafeExprs(((ConsumerFunctionCallStmt) stmt).getArgExprs(), referencedIdentifiers);
+    }
+    // Nested blocks are deliberately walked without short-circuiting so that their own locals get considered as well.
+    if (stmt.getClass() == IfStmt.class) {
+      boolean safe = true;
+      for (IfStmt conditionClause : ((IfStmt) stmt).getConditionClauses()) {
+        safe &= isLocalsOptimizationSafeExpr(conditionClause.getChildren().get(0), referencedIdentifiers);
+        safe &= optimizeLocals((StmtListNode) conditionClause.getChildren().get(1), referencedIdentifiers);
+      }
+      Optional<StmtListNode> optionalElseClause = ((IfStmt) stmt).getOptionalTerminalElseClause();
+      if (optionalElseClause.isPresent()) {
+        safe &= optimizeLocals(optionalElseClause.get(), referencedIdentifiers);
+      }
+      return safe;
+    }
+    if (stmt.getClass() == WhileStmt.class) {
+      return optimizeLocals((StmtListNode) stmt.getChildren().get(1), referencedIdentifiers)
+             & isLocalsOptimizationSafeExpr(stmt.getChildren().get(0), referencedIdentifiers);
+    }
+    if (stmt.getClass() == RepeatStmt.class) {
+      return optimizeLocals(((RepeatStmt) stmt).getBody(), referencedIdentifiers)
+             & isLocalsOptimizationSafeExpr(((RepeatStmt) stmt).getRepeatedCountExpr(), referencedIdentifiers);
+    }
+    return false;
+  }
+
+  private static boolean isLocalsOptimizationSafeExpr(Node expr, Set<String> referencedIdentifiers) {
+    if (expr.getClass() == IdentifierReferenceTerm.class) {
+      referencedIdentifiers.add(((IdentifierReferenceTerm) expr).identifier);
+      return true;
+    }
+    if (expr.getClass() == FunctionCallExpr.class) {
+      return areLocalsOptimizationSafeExprs(((FunctionCallExpr) expr).argExprs, referencedIdentifiers);
+    }
+    if (expr.getClass() == CopyExpr.class) {
+      return isLocalsOptimizationSafeExpr(((CopyExpr) expr).getCopiedExpr(), referencedIdentifiers);
+    }
+    return (LEAF_PROCEDURE_EXPR_TYPES.contains(expr.getClass())
+            || expr.getClass() == IncrementExpr.class
+            || expr.getClass() == DecrementExpr.class)
+           && areLocalsOptimizationSafeExprs(expr.getChildren(), referencedIdentifiers);
+  }
+
+  private static boolean areLocalsOptimizationSafeExprs(
+      List<? extends Node> exprs, Set<String> referencedIdentifiers) {
+    boolean safe = true;
+    for (Node expr : exprs) {
+      // Deliberately not short-circuiting so that every referenced identifier is collected.
+      safe &= isLocalsOptimizationSafeExpr(expr, referencedIdentifiers);
+    }
+    return safe;
+  }
+
   private static void performTransitiveFlagDefsValidationPhase() {
     ImmutableSetMultimap<String, String> flagsToUniqueModuleNames =
         ProgramNode.transitiveExportedFlags.entries().stream()
@@ -819,6 +1187,7 @@ public class ProgramNode {
     } else {
       mainMethodCodegen = String.format(
           "public static void main(String[] args) {\n" +
+          "%s" +
           "    try {\n" +
           "/**BEGIN USER CODE**/\n" +
           "%s\n\n" +
@@ -830,6 +1199,10 @@ public class ProgramNode {
           "%s" +
           "    }\n" +
           "  }\n\n",
+          // Parse flags straight from main's args before any user code has the chance to read them.
+          ProgramNode.transitiveExportedFlags.isEmpty()
+          ? ""
+          : "    com.claro.runtime_utilities.flags.$Flags.$parseMainArgs(args);\n",
           stmtListJavaSource.javaSourceBody(),
           // Only actually codegen cleanup code for the optional stdlib `http` Module, if it was actually used somewhere
           // in this Claro program and we actually have runtime Java deps on the module's custom deps.
@@ -866,6 +1239,7 @@ public class ProgramNode {
             "import com.claro.intermediate_representation.types.impls.builtins_impls.*;\n" +
             "import com.claro.intermediate_representation.types.impls.builtins_impls.collections.*;\n" +
             "import com.claro.intermediate_representation.types.impls.builtins_impls.atoms.$ClaroAtom;\n" +
+            "import com.claro.intermediate_representation.types.impls.builtins_impls.atoms.$LazyAtomCache;\n" +
             "import com.claro.intermediate_representation.types.impls.builtins_impls.futures.ClaroFuture;\n" +
             "import com.claro.intermediate_representation.types.impls.builtins_impls.procedures.ClaroConsumerFunction;\n" +
             "import com.claro.intermediate_representation.types.impls.builtins_impls.procedures.ClaroFunction;\n" +
@@ -882,8 +1256,6 @@ public class ProgramNode {
             "import com.google.common.collect.ImmutableSet;\n" +
             "import com.google.common.util.concurrent.Futures;\n" +
             "import com.google.common.util.concurrent.ListenableFuture;\n" +
-            "import com.google.devtools.common.options.Option;\n" +
-            "import com.google.devtools.common.options.OptionsBase;\n" +
             "import java.io.StringReader;\n" +
             "import java.util.ArrayList;\n" +
             "import java.util.List;\n" +
@@ -899,8 +1271,9 @@ public class ProgramNode {
             "// This class will be populated with the definition of any flags that are defined to be parsed\n" +
             "// anywhere in the overall program.\n" +
             "%s\n" +
-            "// Setup the atom cache so that all atoms are singleton.\n" +
-            "public static final $ClaroAtom[] ATOM_CACHE = new $ClaroAtom[]{%s};\n\n" +
+            "// Setup the atom cache so that all atoms are singleton. Each atom is only constructed on first reference.\n" +
+            "public static final $LazyAtomCache ATOM_CACHE = %s;\n\n" +
+            "%s" +
             "// Static preamble statements first thing.\n" +
             "%s\n\n" +
             "// Static Initializers.\n" +
@@ -916,17 +1289,26 @@ public class ProgramNode {
             !ProgramNode.moduleApiDef.isPresent() && !transitiveExportedFlags.isEmpty()
             ? ProgramNode.transitiveExportedFlags.values().stream()
                 .map(f ->
-                         FlagDefStmt.generateAnnotatedOptionField(
+                         FlagDefStmt.generateFlagKindRegistration(
                              f.getName(), Types.parseTypeProto(f.getType())))
                 .collect(Collectors.joining(
-                    "\n",
-                    "public static class $FlagsToParse extends OptionsBase {\n",
-                    "\n}\n" +
-                    "// Very first thing to do is statically configure the generated class to be used for parsing flags.\n" +
-                    "  static {\n    com.claro.runtime_utilities.flags.$Flags.$programOptionsClass = $FlagsToParse.class;\n  }\n"
+                    "",
+                    "// Very first thing to do is statically configure the set of flags that this program parses.\n" +
+                    "static {\n" +
+                    "  com.claro.runtime_utilities.flags.$Flags.$programFlags =\n" +
+                    "    ImmutableMap.<String, com.claro.runtime_utilities.flags.$Flags.FlagKind>builder()\n",
+                    "      .build();\n" +
+                    "}\n"
                 ))
             : "",
             AtomDefinitionStmt.codegenAtomCacheInit(),
+            InternalStaticStateUtil.RuntimeTypeConstants_fieldDefinitions.length() == 0
+            ? ""
+            : "// Runtime types shared by all values that need them. As a holder class, none of these are constructed\n" +
+              "// until the first of them is actually needed.\n" +
+              "static final class $RuntimeTypeConstants {\n" +
+              InternalStaticStateUtil.RuntimeTypeConstants_fieldDefinitions +
+              "}\n\n",
             stmtListJavaSource.optionalStaticPreambleStmts().orElse(new StringBuilder()),
             staticValueInitialization,
             stmtListJavaSource.optionalStaticDefinitions().orElse(new StringBuilder()),
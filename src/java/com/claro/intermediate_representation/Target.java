@@ -2,6 +2,11 @@ package com.claro.intermediate_representation;
 
 public enum Target {
   // This is used for literally converting source program to Java source.
+  // TODO(steving) Add a JVM bytecode target that emits .class files straight from the Node tree, which would open the
+  //   door to codegen that Java source can't express (e.g. invokedynamic based contract dispatch). For now, the
+  //   javac action is skipped by compiling this target's output in-process instead (see JvmClassFileEmitter). The
+  //   remaining blockers are that every Node only produces GeneratedJavaSource, dep module monomorphizations are
+  //   shipped between compilation units as Java source, and there's no bytecode library on the JDK Claro targets.
   JAVA_SOURCE,
   // Interpret the program instructions within the CompilerBackend itself instead of producing a compiled output.
   INTERPRETED,
@@ -12,6 +12,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -32,6 +33,14 @@ public class ComprehensionExpr extends Expr {
   private final Optional<Expr> whereClauseExpr;
   private final boolean isMutable;
   private final long uniqueId;
+  // Opted into by the programmer via the `parallel` keyword. The mapped item and where clause exprs will be evaluated
+  // concurrently, out of order, so they're validated to be safe for that: they may not call any blocking procedure, any
+  // procedure that isn't provably side-effect free, nor reference any identifier declared outside of the comprehension
+  // whose type isn't deeply-immutable.
+  // TODO(steving) Procedures are currently only provably side-effect free if they're "leaf" procedures (see
+  //   ProgramNode::isLeafProcedure). Once Claro tracks procedure purity more generally this could be relaxed, and it'd
+  //   even be possible to automatically parallelize sufficiently large comprehensions.
+  private boolean isParallel = false;
   private Type validatedCollectionExprType;
   private Type validatedComprehensionResultType;
   private Type validatedItemType;
@@ -67,6 +76,11 @@ public class ComprehensionExpr extends Expr {
     this.uniqueId = ComprehensionExpr.TOTAL_COMPREHENSIONS_COUNT++;
   }
 
+  public ComprehensionExpr markParallel() {
+    this.isParallel = true;
+    return this;
+  }
+
   @Override
   public void assertExpectedExprType(ScopedHeap scopedHeap, Type expectedExprType) throws ClaroTypeException {
     this.assertedExprType = expectedExprType;
@@ -82,6 +96,8 @@ public class ComprehensionExpr extends Expr {
     this.isOutermostNestedComprehension =
         ++InternalStaticStateUtil.ComprehensionExpr_nestedComprehensionCollectionsCount == 0;
     InternalStaticStateUtil.ComprehensionExpr_nestedComprehensionMappedItemName = this.itemName.identifier;
+    Optional<InternalStaticStateUtil.ParallelComprehensionValidationState> outerParallelComprehensionValidationState =
+        InternalStaticStateUtil.ComprehensionExpr_optionalParallelComprehensionValidationState;
 
     // There shouldn't be any unhandled exceptions here, but just in case, it's too important that this definitely
     // gets reset to accidentally miss resetting, so just handle in a try-finally just in case.
@@ -143,6 +159,17 @@ public class ComprehensionExpr extends Expr {
       }
       scopedHeap.initializeIdentifier(this.itemName.identifier);
 
+      // A `parallel` comprehension is evaluated on the common ForkJoinPool, so blocking anywhere in its where clause or
+      // mapped exprs would stall every other task sharing that pool, and any side-effects or references to shared
+      // mutable data would race. Collect all procedure calls and identifier references so they can be checked once the
+      // where clause and mapped exprs have been validated. Comprehensions nested within a `parallel` comprehension
+      // report to the outermost one.
+      if (this.isParallel && !outerParallelComprehensionValidationState.isPresent()) {
+        InternalStaticStateUtil.ComprehensionExpr_optionalParallelComprehensionValidationState =
+            Optional.of(new InternalStaticStateUtil.ParallelComprehensionValidationState());
+      }
+      InternalStaticStateUtil.recordItemNameWithinParallelComprehension(this.itemName.identifier);
+
       // If there's a where clause we need to type check it.
       if (this.whereClauseExpr.isPresent()) {
         this.whereClauseExpr.get().assertExpectedExprType(scopedHeap, Types.BOOLEAN);
@@ -189,9 +216,39 @@ public class ComprehensionExpr extends Expr {
               this.comprehensionResultBaseType);
       }
 
+      if (this.isParallel && !outerParallelComprehensionValidationState.isPresent()) {
+        InternalStaticStateUtil.ParallelComprehensionValidationState parallelComprehensionValidationState =
+            InternalStaticStateUtil.ComprehensionExpr_optionalParallelComprehensionValidationState.get();
+        if (!parallelComprehensionValidationState.blockingCalls.isEmpty()) {
+          this.logTypeError(
+              ClaroTypeException.forBlockingCallWithinParallelComprehension(
+                  parallelComprehensionValidationState.blockingCalls));
+        }
+        if (!parallelComprehensionValidationState.unprovablySideEffectFreeCalls.isEmpty()) {
+          this.logTypeError(
+              ClaroTypeException.forUnprovablySideEffectFreeCallWithinParallelComprehension(
+                  parallelComprehensionValidationState.unprovablySideEffectFreeCalls));
+        }
+        LinkedHashMap<String, Type> mutableOuterIdentifierReferences = new LinkedHashMap<>();
+        parallelComprehensionValidationState.identifierReferences.forEach(
+            (identifier, identifierType) -> {
+              if (!parallelComprehensionValidationState.itemNames.contains(identifier)
+                  && !Types.isDeeplyImmutable(identifierType)) {
+                mutableOuterIdentifierReferences.put(identifier, identifierType);
+              }
+            });
+        if (!mutableOuterIdentifierReferences.isEmpty()) {
+          this.logTypeError(
+              ClaroTypeException.forMutableIdentifierReferenceWithinParallelComprehension(
+                  mutableOuterIdentifierReferences));
+        }
+      }
+
       // Now we're done with the synthetic iterm variable.
       scopedHeap.deleteIdentifierValue(this.itemName.identifier);
     } finally {
+      InternalStaticStateUtil.ComprehensionExpr_optionalParallelComprehensionValidationState =
+          outerParallelComprehensionValidationState;
       // Finally, to handle nested comprehensions, check the nesting level and the set of nested identifier refs to see
       // if we'll need to do special codegen handling.
       this.requiresNestedCodegenHandling =
@@ -238,9 +295,12 @@ public class ComprehensionExpr extends Expr {
           this.nestedComprehensionIdentifierReferencesForCodegen;
     }
 
+    String resultCollectionClassName =
+        "Claro" + ComprehensionExpr.baseTypeToJavaCodegenName(this.comprehensionResultBaseType);
+    String accumulatorName = "$comprehensionAcc_" + this.uniqueId;
     GeneratedJavaSource res = this.collectionExpr.generateJavaSourceOutput(scopedHeap);
     // Now start streaming.
-    res.javaSourceBody().append(".stream()");
+    res.javaSourceBody().append(this.isParallel ? ".stream().parallel()" : ".stream()");
     // From now, everything will depend on the itemName var.
     scopedHeap.putIdentifierValue(this.itemName.identifier, this.validatedItemType);
     scopedHeap.initializeIdentifier(this.itemName.identifier);
@@ -252,65 +312,55 @@ public class ComprehensionExpr extends Expr {
       res = res.createMerged(this.whereClauseExpr.get().generateJavaSourceOutput(scopedHeap));
       res.javaSourceBody().append(")");
     }
-    // Now apply the mapping.
-    res.javaSourceBody().append(".map(")
+    // Now, rather than mapping to some intermediate collection that'd just be copied again into the final Claro
+    // collection, accumulate each mapped value directly into the result collection.
+    res.javaSourceBody()
+        .append(".collect(() -> new ")
+        .append(resultCollectionClassName)
+        .append("(")
+        .append(this.validatedComprehensionResultType.getJavaSourceClaroType())
+        .append("), (")
+        .append(accumulatorName)
+        .append(", ")
         .append(this.itemName.identifier)
-        .append(" -> ");
+        .append(") -> ");
     if (ImmutableSet.of(BaseType.LIST, BaseType.SET).contains(this.comprehensionResultBaseType)) {
       // If we're mapping to a set or list we just accept the map expr as is.
+      res.javaSourceBody().append(accumulatorName).append(".add(");
+      if (this.comprehensionResultBaseType.equals(BaseType.SET)) {
+        // ClaroSet overloads add() for Collections, which we don't want to accidentally dispatch to for sets of lists.
+        res.javaSourceBody().append("(Object) ");
+      }
       res = res.createMerged(this.mappedItemExpr.generateJavaSourceOutput(scopedHeap));
+      res.javaSourceBody().append("), ");
     } else {
-      // For a map, we actually need to convert their key value into a ClaroTuple to be added to the map.
-      res.javaSourceBody()
-          .append("new ClaroTuple(")
-          .append(
-              Types.TupleType.forValueTypes(
-                  ImmutableList.of(
-                      this.validatedComprehensionResultType.parameterizedTypeArgs()
-                          .get(Types.MapType.PARAMETERIZED_TYPE_KEYS),
-                      this.validatedComprehensionResultType.parameterizedTypeArgs()
-                          .get(Types.MapType.PARAMETERIZED_TYPE_VALUES)
-                  ),
-                  /*isMutable=*/false
-              ).getJavaSourceClaroType())
-          .append(", ");
+      // For a map, we can put the key/val directly w/o needing to allocate an intermediate ClaroTuple. Duplicate keys
+      // are still rejected just as they always have been.
+      res.javaSourceBody().append("{ if (").append(accumulatorName).append(".put(");
       res = res.createMerged(this.mappedItemKeyExpr.generateJavaSourceOutput(scopedHeap));
       res.javaSourceBody().append(", ");
       res = res.createMerged(this.mappedItemValExpr.generateJavaSourceOutput(scopedHeap));
-      res.javaSourceBody().append(')');
+      res.javaSourceBody()
+          .append(") != null) { throw new IllegalArgumentException(\"Multiple entries with same key in map comprehension.\"); } }, ");
     }
-    res.javaSourceBody().append(").collect(");
-    // Finally, just need to add each streamed value to the result collection!
+    // The combiner is only ever used if the stream is parallel. Java's collect() always combines partial results in
+    // encounter order, so list comprehensions still preserve the source collection's ordering.
     if (this.comprehensionResultBaseType.equals(BaseType.MAP)) {
-      // In the case of collecting to a map, I actually need to unpack the Tuple and put the key/val into the map.
       res.javaSourceBody()
-          .append("ImmutableMap.toImmutableMap(")
-          .append("t -> (")
-          .append(this.validatedComprehensionResultType.parameterizedTypeArgs()
-                      .get(Types.MapType.PARAMETERIZED_TYPE_KEYS)
-                      .getJavaSourceType())
-          .append(") t.getElement(0),")
-          .append("t -> (")
-          .append(this.validatedComprehensionResultType.parameterizedTypeArgs()
-                      .get(Types.MapType.PARAMETERIZED_TYPE_VALUES)
-                      .getJavaSourceType())
-          .append(") t.getElement(1))))");
+          .append(
+              String.format(
+                  "($l_%1$s, $r_%1$s) -> ((java.util.Map<Object, Object>) $r_%1$s).forEach(($k_%1$s, $v_%1$s) -> " +
+                  "{ if (((java.util.Map<Object, Object>) $l_%1$s).put($k_%1$s, $v_%1$s) != null) { " +
+                  "throw new IllegalArgumentException(\"Multiple entries with same key in map comprehension.\"); } }))",
+                  this.uniqueId
+              ));
     } else {
-      res.javaSourceBody().append("Collectors.toList()))");
+      res.javaSourceBody().append(resultCollectionClassName).append("::addAll)");
     }
 
     // Now we're done with the synthetic iterm variable.
     scopedHeap.deleteIdentifierValue(this.itemName.identifier);
 
-    // The entire streamed collection needs to be passed into the corresponding ClaroCollection class.
-    res = GeneratedJavaSource.forJavaSourceBody(
-            new StringBuilder("new Claro")
-                .append(ComprehensionExpr.baseTypeToJavaCodegenName(this.comprehensionResultBaseType))
-                .append("(")
-                .append(this.validatedComprehensionResultType.getJavaSourceClaroType())
-                .append(", "))
-        .createMerged(res);
-
     // Before returning, in the case that there was nesting, I need to be careful to actually do all of this within a
     // `Function` where we pass in the references to potentially non-final internally referenced variables via a hack
     // that works around Java's restriction that all variable references captured by lambdas are effectively-final.
@@ -1,8 +1,10 @@
 package com.claro.intermediate_representation.expressions;
 
 import com.claro.compiler_backends.interpreted.ScopedHeap;
+import com.claro.intermediate_representation.Node;
 import com.claro.intermediate_representation.expressions.procedures.functions.StructuralConcreteGenericTypeValidationUtil;
 import com.claro.intermediate_representation.types.*;
+import com.claro.internal_static_state.InternalStaticStateUtil;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
@@ -18,12 +20,23 @@ public class CopyExpr extends Expr {
   private final Expr copiedExpr;
   private Type validatedCopiedExprType;
   private Optional<Type> assertedCopyResultType = Optional.empty();
+  // Set by ProgramNode once it's proven that the copied Expr is a reference to a local that's never aliased and that's
+  // dead after this copy, in which case no one could ever observe the copied value other than through this copy.
+  private boolean elidingCopyOfDeadLocalPermitted = false;
 
   public CopyExpr(Expr copiedExpr, Supplier<String> currentLine, int currentLineNumber, int startCol, int endCol) {
     super(ImmutableList.of(), currentLine, currentLineNumber, startCol, endCol);
     this.copiedExpr = copiedExpr;
   }
 
+  public Expr getCopiedExpr() {
+    return this.copiedExpr;
+  }
+
+  public void permitElidingCopyOfDeadLocal() {
+    this.elidingCopyOfDeadLocalPermitted = true;
+  }
+
   @Override
   public void assertExpectedExprType(ScopedHeap scopedHeap, Type expectedExprType) throws ClaroTypeException {
     // Support type coercion of mutability annotation.
@@ -59,9 +72,55 @@ public class CopyExpr extends Expr {
   @Override
   public GeneratedJavaSource generateJavaSourceOutput(ScopedHeap scopedHeap) {
     GeneratedJavaSource copiedExprJavaSource = this.copiedExpr.generateJavaSourceOutput(scopedHeap);
+    if (isCopyOfFreshValue()) {
+      // There's no way for anything else to be holding a reference to the value being copied, so the copy would be
+      // indistinguishable from the original. Just hand over the original.
+      return copiedExprJavaSource;
+    }
     return getCopyJavaSource(copiedExprJavaSource, this.validatedCopiedExprType, this.assertedCopyResultType.orElse(this.validatedCopiedExprType), /*nestingLevel=*/0).orElse(copiedExprJavaSource);
   }
 
+  // Copies are only elided here when nothing else could possibly be holding a reference to the copied value, i.e. it's
+  // either freshly allocated by the copied expr itself, or it's held by an unaliased local that's dead after the copy
+  // (see ProgramNode#optimizeLocals()). In either case, the copy also mustn't have needed to recurse into the value's
+  // elements (which may very well be aliased elsewhere).
+  // TODO(steving) A runtime copy-on-write mode for mut collections would cover the cases where the copied local isn't
+  //   provably dead, but that's blocked for now by ClaroList/ClaroSet/ClaroMap directly extending the java.util
+  //   collections rather than delegating to a swappable backing collection.
+  private boolean isCopyOfFreshValue() {
+    if (this.assertedCopyResultType.isPresent()
+        && !this.assertedCopyResultType.get().equals(this.validatedCopiedExprType)) {
+      // Mutability coercion must produce a value w/ a different runtime type, so there's no avoiding the copy.
+      return false;
+    }
+    Expr copiedExpr = this.copiedExpr;
+    while (copiedExpr instanceof ParenthesizedExpr) {
+      copiedExpr = (Expr) copiedExpr.getChildren().get(0);
+    }
+    if (copiedExpr instanceof CopyExpr) {
+      // The result of a copy is already a deep copy, no need to do it all over again.
+      return true;
+    }
+    switch (this.validatedCopiedExprType.baseType()) {
+      case LIST:
+      case SET:
+      case MAP:
+        return (this.elidingCopyOfDeadLocalPermitted || isFreshlyAllocatedValue(copiedExpr))
+               && this.validatedCopiedExprType.parameterizedTypeArgs().values().stream()
+                   .allMatch(Types::isDeeplyImmutable);
+      default:
+        return false;
+    }
+  }
+
+  public static boolean isFreshlyAllocatedValue(Node expr) {
+    return expr instanceof ListExpr
+           || expr instanceof SetExpr
+           || expr instanceof MapExpr
+           || expr instanceof ComprehensionExpr
+           || expr instanceof CopyExpr;
+  }
+
   public static Optional<GeneratedJavaSource> getCopyJavaSource(GeneratedJavaSource copiedExprJavaSource, Type copiedExprType, Type coercedType, long nestingLevel) {
     //!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
     // !!!WARNING!!!!
@@ -369,8 +428,9 @@ public class CopyExpr extends Expr {
                         // definitely evaluate as having the same type.
                         String canonicalizedTypeName = copiedExprUserDefinedType.getTypeName()
                             .substring(copiedExprUserDefinedType.getTypeName().lastIndexOf("$") + 1);
-                        return GeneratedJavaSource.forJavaSourceBody(
-                            new StringBuilder("new $UserDefinedType(\"")
+                        String metadata = InternalStaticStateUtil.getRuntimeTypeConstant(
+                            "$UserDefinedType.Metadata",
+                            new StringBuilder("new $UserDefinedType.Metadata(\"")
                                 .append(canonicalizedTypeName)
                                 .append("\", \"")
                                 .append(copiedExprUserDefinedType.getDefiningModuleDisambiguator())
@@ -386,6 +446,12 @@ public class CopyExpr extends Expr {
                                                 copiedExprUserDefinedType.getDefiningModuleDisambiguator()
                                             ))
                                         .getJavaSourceClaroType())
+                                .append(")")
+                                .toString()
+                        );
+                        return GeneratedJavaSource.forJavaSourceBody(
+                            new StringBuilder("new $UserDefinedType(")
+                                .append(metadata)
                                 .append(", ")
                                 .append(generatedJavaSource.javaSourceBody())
                                 .append(")")
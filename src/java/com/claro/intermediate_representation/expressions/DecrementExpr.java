@@ -37,7 +37,22 @@ public class DecrementExpr extends Expr {
 
   @Override
   public StringBuilder generateJavaSourceBodyOutput(ScopedHeap scopedHeap) {
-    StringBuilder res = ((Expr) getChildren().get(0)).generateJavaSourceBodyOutput(scopedHeap);
+    StringBuilder res = generateDecrementJavaSourceBodyOutput(scopedHeap);
+    if (((IdentifierReferenceTerm) getChildren().get(0)).isUnboxedJavaLocal(scopedHeap)) {
+      res.insert(0, "Integer.valueOf(").append(')');
+    }
+    return res;
+  }
+
+  @Override
+  public GeneratedJavaSource generateUnboxedJavaSourceOutput(ScopedHeap scopedHeap) {
+    return GeneratedJavaSource.forJavaSourceBody(generateDecrementJavaSourceBodyOutput(scopedHeap));
+  }
+
+  private StringBuilder generateDecrementJavaSourceBodyOutput(ScopedHeap scopedHeap) {
+    // The decrement must always apply directly to the local itself, even if it's backed by a Java primitive.
+    StringBuilder res =
+        ((IdentifierReferenceTerm) getChildren().get(0)).generateUnboxedJavaSourceBodyOutput(scopedHeap);
     if (preDecrement) {
       res.insert(0, "--");
     } else {
@@ -22,6 +22,9 @@ public abstract class Expr extends Node {
 
   // Use these fields to provide more richer error messaging rather than simply throwing Exceptions.
   public static final Stack<Consumer<String>> typeErrorsFound = new Stack<>();
+  // Set only on threads validating a procedure body concurrently w/ others, so that each task's errors can be merged back
+  // into typeErrorsFound in source order afterwards regardless of which task happened to finish first.
+  public static final ThreadLocal<Stack<Consumer<String>>> concurrentTaskTypeErrorsFound = new ThreadLocal<>();
   public final Supplier<String> currentLine;
   public final int currentLineNumber;
   public final int startCol;
@@ -190,7 +193,8 @@ public abstract class Expr extends Node {
   }
 
   public void logTypeError(Exception e) {
-    Expr.typeErrorsFound.push(
+    Stack<Consumer<String>> concurrentTaskTypeErrorsFound = Expr.concurrentTaskTypeErrorsFound.get();
+    (concurrentTaskTypeErrorsFound == null ? Expr.typeErrorsFound : concurrentTaskTypeErrorsFound).push(
         (filename) -> {
           System.err.println(
               String.format(
@@ -219,6 +223,13 @@ public abstract class Expr extends Node {
     return GeneratedJavaSource.forJavaSourceBody(generateJavaSourceBodyOutput(scopedHeap));
   }
 
+  // Codegen for a context that's going to immediately consume this Expr's value as a Java primitive (e.g. an arithmetic
+  // operand, or the initializer of a primitive local). By default this is just the usual boxed value which Java will
+  // auto-unbox, but Exprs that are able to produce the primitive directly should override this to skip the boxing.
+  public GeneratedJavaSource generateUnboxedJavaSourceOutput(ScopedHeap scopedHeap) {
+    return generateJavaSourceOutput(scopedHeap);
+  }
+
   // TODO(steving) This is errorprone. In a future CL just remove this method entirely since it's literally saving Exprs
   //  one line of code but is opening other Exprs to silently dropping static definitions.
   // Some Exprs can override just this convenience method in the case that they BOTH:
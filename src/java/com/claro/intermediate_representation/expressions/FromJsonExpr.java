@@ -236,7 +236,7 @@ public class FromJsonExpr extends Expr {
               .append(", ")
               .append(
                   String.format(
-                      "%s.%s.ATOM_CACHE[%s]",
+                      "%s.%s.ATOM_CACHE.get(%s)",
                       StdLibModuleRegistry.STDLIB_MODULE_PACKAGE,
                       StdLibModuleRegistry.STDLIB_MODULE_DISAMBIGUATOR,
                       InternalStaticStateUtil.AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME.build().get(
@@ -324,7 +324,7 @@ public class FromJsonExpr extends Expr {
             .append("\tClaroStruct $structBuilder")
             .append(nestingLevel)
             .append(" = new ClaroStruct(")
-            .append(type.getJavaSourceClaroType())
+            .append(InternalStaticStateUtil.getRuntimeTypeConstant("Types.StructType", type.getJavaSourceClaroType()))
             .append(", ")
             .append(IntStream.range(0, structType.getFieldTypes().size())
                         .boxed()
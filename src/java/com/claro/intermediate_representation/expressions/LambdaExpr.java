@@ -105,8 +105,8 @@ public class LambdaExpr extends Expr {
 
       // Before we delegate to our ProcedureDefinitionStmt, we need to make sure that we're able to preserve
       // the status of whether or not ReturnStmts are allowed in the outer scope that this lambda is defined in.
-      Optional<String> outerScopeWithinProcedureScope = ReturnStmt.withinProcedureScope;
-      boolean outerScopeSupportsReturnStmt = ReturnStmt.supportReturnStmt;
+      Optional<String> outerScopeWithinProcedureScope = ReturnStmt.withinProcedureScope.get();
+      boolean outerScopeSupportsReturnStmt = ReturnStmt.supportReturnStmt.get();
       TypeProvider outerScopeExpectedReturnTypeProvider = null;
       if (((Types.ProcedureType) expectedExprType).hasReturnValue()) {
         outerScopeExpectedReturnTypeProvider = returnTypeReference.get();
@@ -178,10 +178,20 @@ public class LambdaExpr extends Expr {
         }
       }
 
+      // Defining a lambda within a `parallel` comprehension is harmless, only calling it could be unsafe (which will be
+      // caught at the call site as first-class calls are never considered provably side-effect free). The lambda's
+      // captures are already required to be deeply-immutable.
+      Optional<InternalStaticStateUtil.ParallelComprehensionValidationState> outerParallelComprehensionValidationState =
+          InternalStaticStateUtil.ComprehensionExpr_optionalParallelComprehensionValidationState;
+      InternalStaticStateUtil.ComprehensionExpr_optionalParallelComprehensionValidationState = Optional.empty();
+
       // Now delegate to our internal ProcedureDefinitionStmt instance to see if it approves the types.
       delegateProcedureDefinitionStmt.registerProcedureTypeProvider(scopedHeap);
       delegateProcedureDefinitionStmt.assertExpectedExprTypes(scopedHeap);
 
+      InternalStaticStateUtil.ComprehensionExpr_optionalParallelComprehensionValidationState =
+          outerParallelComprehensionValidationState;
+
       if (cleanupInternalStaticState) {
         InternalStaticStateUtil.LambdaExpr_optionalActiveGenericProcedureDefRequiredContractNamesToGenericArgs
             = Optional.empty();
@@ -189,8 +199,8 @@ public class LambdaExpr extends Expr {
 
       // Recover the existing state info about whether or not ReturnStmts are supported in the scope surrounding
       // this LambdaExpr.
-      ReturnStmt.withinProcedureScope = outerScopeWithinProcedureScope;
-      ReturnStmt.supportReturnStmt = outerScopeSupportsReturnStmt;
+      ReturnStmt.withinProcedureScope.set(outerScopeWithinProcedureScope);
+      ReturnStmt.supportReturnStmt.set(outerScopeSupportsReturnStmt);
       if (((Types.ProcedureType) expectedExprType).hasReturnValue()) {
         returnTypeReference.set(outerScopeExpectedReturnTypeProvider);
       }
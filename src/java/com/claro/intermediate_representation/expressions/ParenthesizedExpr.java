@@ -43,6 +43,18 @@ public class ParenthesizedExpr extends Expr {
     return res;
   }
 
+  @Override
+  public GeneratedJavaSource generateUnboxedJavaSourceOutput(ScopedHeap scopedHeap) {
+    // Parens don't change the value, so the wrapped Expr can just as well be consumed as a primitive.
+    GeneratedJavaSource exprGeneratedJavaSource =
+        ((Expr) this.getChildren().get(0)).generateUnboxedJavaSourceOutput(scopedHeap);
+    GeneratedJavaSource res = GeneratedJavaSource.forJavaSourceBody(
+        new StringBuilder("(").append(exprGeneratedJavaSource.javaSourceBody()).append(")"));
+    // We've already consumed the javaSourceBody so we can clear it out.
+    exprGeneratedJavaSource.javaSourceBody().setLength(0);
+    return res.createMerged(exprGeneratedJavaSource);
+  }
+
   @Override
   public Object generateInterpretedOutput(ScopedHeap scopedHeap) {
     return this.getChildren().get(0).generateInterpretedOutput(scopedHeap);
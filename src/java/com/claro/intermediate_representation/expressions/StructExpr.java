@@ -3,6 +3,7 @@ package com.claro.intermediate_representation.expressions;
 import com.claro.compiler_backends.interpreted.ScopedHeap;
 import com.claro.intermediate_representation.types.*;
 import com.claro.intermediate_representation.types.impls.builtins_impls.structs.ClaroStruct;
+import com.claro.internal_static_state.InternalStaticStateUtil;
 import com.google.common.collect.ImmutableList;
 
 import java.util.concurrent.atomic.AtomicReference;
@@ -97,7 +98,9 @@ public class StructExpr extends Expr {
 
     StringBuilder resJavaSourceBody = new StringBuilder();
     resJavaSourceBody.append("new ClaroStruct(");
-    resJavaSourceBody.append(this.type.getJavaSourceClaroType());
+    // Every instance of this struct literal shares a single instance of its type.
+    resJavaSourceBody.append(
+        InternalStaticStateUtil.getRuntimeTypeConstant("Types.StructType", this.type.getJavaSourceClaroType()));
     resJavaSourceBody.append(", ");
     resJavaSourceBody.append(
         this.fieldValues.stream()
@@ -48,7 +48,7 @@ public class EqualsBoolExpr extends BoolExpr {
       // then that means we're going to do some type narrowing if we're going into a condition body scope and we can
       // narrow a specific value by identifier name (so obviously not through some collection subscript or procedure
       // call).
-      if (InternalStaticStateUtil.IfStmt_withinConditionTypeValidation
+      if (InternalStaticStateUtil.IfStmt_withinConditionTypeValidation.get()
           && this.getChildren().get(0) instanceof IdentifierReferenceTerm
           && !actualRhsType.baseType().equals(BaseType.ONEOF)) {
         this.oneofsToBeNarrowed.put(
@@ -70,7 +70,7 @@ public class EqualsBoolExpr extends BoolExpr {
         // then that means we're going to do some type narrowing if we're going into a condition body scope and we can
         // narrow a specific value by identifier name (so obviously not through some collection subscript or procedure
         // call).
-        if (InternalStaticStateUtil.IfStmt_withinConditionTypeValidation
+        if (InternalStaticStateUtil.IfStmt_withinConditionTypeValidation.get()
             && this.getChildren().get(1) instanceof IdentifierReferenceTerm
             && !actualLhsType.baseType().equals(BaseType.ONEOF)) {
           this.oneofsToBeNarrowed.put(
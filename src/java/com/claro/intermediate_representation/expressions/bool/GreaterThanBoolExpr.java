@@ -23,8 +23,10 @@ public class GreaterThanBoolExpr extends BoolExpr {
 
   @Override
   public GeneratedJavaSource generateJavaSourceOutput(ScopedHeap scopedHeap) {
-    GeneratedJavaSource exprGenJavaSource0 = this.getChildren().get(0).generateJavaSourceOutput(scopedHeap);
-    GeneratedJavaSource exprGenJavaSource1 = this.getChildren().get(1).generateJavaSourceOutput(scopedHeap);
+    GeneratedJavaSource exprGenJavaSource0 =
+        ((Expr) this.getChildren().get(0)).generateUnboxedJavaSourceOutput(scopedHeap);
+    GeneratedJavaSource exprGenJavaSource1 =
+        ((Expr) this.getChildren().get(1)).generateUnboxedJavaSourceOutput(scopedHeap);
 
     GeneratedJavaSource addExprGenJavaSource =
         GeneratedJavaSource.forJavaSourceBody(
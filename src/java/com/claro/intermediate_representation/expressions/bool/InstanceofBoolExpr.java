@@ -45,7 +45,7 @@ public class InstanceofBoolExpr extends BoolExpr {
     // then that means we're going to do some type narrowing if we're going into a condition body scope and we can
     // narrow a specific value by identifier name (so obviously not through some collection subscript or procedure
     // call).
-    if (InternalStaticStateUtil.IfStmt_withinConditionTypeValidation
+    if (InternalStaticStateUtil.IfStmt_withinConditionTypeValidation.get()
         && this.oneofExpr instanceof IdentifierReferenceTerm) {
       this.oneofsToBeNarrowed.put(
           ((IdentifierReferenceTerm) this.oneofExpr).identifier,
@@ -53,18 +53,19 @@ public class AddNumericExpr extends NumericExpr {
 
   @Override
   public GeneratedJavaSource generateJavaSourceOutput(ScopedHeap scopedHeap) {
-    GeneratedJavaSource exprGenJavaSource0 = this.getChildren().get(0).generateJavaSourceOutput(scopedHeap);
-    GeneratedJavaSource exprGenJavaSource1 = this.getChildren().get(1).generateJavaSourceOutput(scopedHeap);
+    GeneratedJavaSource exprGenJavaSource0 = generateOperandJavaSourceOutput(this.getChildren().get(0), scopedHeap);
+    GeneratedJavaSource exprGenJavaSource1 = generateOperandJavaSourceOutput(this.getChildren().get(1), scopedHeap);
 
     GeneratedJavaSource addExprGenJavaSource =
         GeneratedJavaSource.forJavaSourceBody(
             new StringBuilder(
-                String.format(
-                    "%s.valueOf(%s + %s)",
-                    this.maybePromotedResultType.getJavaSourceType(),
-                    exprGenJavaSource0.javaSourceBody().toString(),
-                    exprGenJavaSource1.javaSourceBody().toString()
-                )));
+                boxResult(
+                    this.maybePromotedResultType,
+                    String.format(
+                        "%s + %s",
+                        exprGenJavaSource0.javaSourceBody().toString(),
+                        exprGenJavaSource1.javaSourceBody().toString()
+                    ))));
 
     // We've already used the javaSourceBody's, we're safe to clear them.
     exprGenJavaSource0.javaSourceBody().setLength(0);
@@ -1,14 +1,40 @@
 package com.claro.intermediate_representation.expressions.numeric;
 
+import com.claro.compiler_backends.interpreted.ScopedHeap;
 import com.claro.intermediate_representation.Node;
 import com.claro.intermediate_representation.expressions.Expr;
+import com.claro.intermediate_representation.types.Type;
 import com.google.common.collect.ImmutableList;
 
 import java.util.function.Supplier;
 
 public abstract class NumericExpr extends Expr {
-  // For now this class is left empty, though in the future it'll likely contain at least typing information.
+  // Arithmetic is always computed over Java primitives, and then the result is boxed back up into the Claro value. So
+  // when one arithmetic expr is nested directly within another, e.g. `a * b + c`, there's no reason to box the
+  // intermediate result only to have it immediately unboxed again by the enclosing expr. Any context consuming this
+  // expr as a primitive (see Expr#generateUnboxedJavaSourceOutput()) will set this to signal that this expr's result
+  // should be left unboxed.
+  private boolean unboxedResultRequested = false;
+
   public NumericExpr(ImmutableList<Node> children, Supplier<String> currentLine, int currentLineNumber, int startCol, int endCol) {
     super(children, currentLine, currentLineNumber, startCol, endCol);
   }
+
+  // Codegen for an operand that's going to be immediately consumed as a Java primitive by this arithmetic expr.
+  protected static GeneratedJavaSource generateOperandJavaSourceOutput(Node operand, ScopedHeap scopedHeap) {
+    return ((Expr) operand).generateUnboxedJavaSourceOutput(scopedHeap);
+  }
+
+  @Override
+  public GeneratedJavaSource generateUnboxedJavaSourceOutput(ScopedHeap scopedHeap) {
+    this.unboxedResultRequested = true;
+    return generateJavaSourceOutput(scopedHeap);
+  }
+
+  protected String boxResult(Type resultType, String unboxedResultJavaSource) {
+    if (this.unboxedResultRequested) {
+      return String.format("(%s)", unboxedResultJavaSource);
+    }
+    return String.format("%s.valueOf(%s)", resultType.getJavaSourceType(), unboxedResultJavaSource);
+  }
 }
@@ -111,6 +111,14 @@ public class FirstClassFunctionCallExpr extends Expr {
             .resolvedProcedureType.getIsBlocking().set(true);
       }
     }
+    // Blocking is also forbidden within `parallel` comprehensions, which must not stall the shared thread pool, and any
+    // other calls must be provably side-effect free, which is never the case for first-class calls.
+    if (((Types.ProcedureType) referencedIdentifierType).getAnnotatedBlocking()) {
+      InternalStaticStateUtil.recordBlockingCallWithinParallelComprehension("<first-class function call>", referencedIdentifierType);
+    } else {
+      InternalStaticStateUtil.recordProcedureCallWithinParallelComprehension(
+          "<first-class function call>", referencedIdentifierType, /*isStaticCall=*/false);
+    }
 
     return ((Types.ProcedureType.FunctionType) referencedIdentifierType).getReturnType();
   }
@@ -75,6 +75,14 @@ public class FirstClassProviderFunctionCallExpr extends Expr {
             .resolvedProcedureType.getIsBlocking().set(true);
       }
     }
+    // Blocking is also forbidden within `parallel` comprehensions, which must not stall the shared thread pool, and any
+    // other calls must be provably side-effect free, which is never the case for first-class calls.
+    if (((Types.ProcedureType) referencedIdentifierType).getAnnotatedBlocking()) {
+      InternalStaticStateUtil.recordBlockingCallWithinParallelComprehension("<first-class provider call>", referencedIdentifierType);
+    } else {
+      InternalStaticStateUtil.recordProcedureCallWithinParallelComprehension(
+          "<first-class provider call>", referencedIdentifierType, /*isStaticCall=*/false);
+    }
 
     return ((Types.ProcedureType.ProviderType) referencedIdentifierType).getReturnType();
   }
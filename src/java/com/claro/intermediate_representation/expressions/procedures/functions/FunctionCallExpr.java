@@ -317,6 +317,14 @@ public class FunctionCallExpr extends Expr {
             .resolvedProcedureType.getIsBlocking().set(true);
       }
     }
+    // Blocking is also forbidden within `parallel` comprehensions, which must not stall the shared thread pool, and any
+    // other calls must be provably side-effect free. User-defined type default constructors just wrap their arg.
+    if (((Types.ProcedureType) referencedIdentifierType).getAnnotatedBlocking()) {
+      InternalStaticStateUtil.recordBlockingCallWithinParallelComprehension(this.originalName, referencedIdentifierType);
+    } else if (!this.representsUserDefinedTypeConstructor.isPresent()) {
+      InternalStaticStateUtil.recordProcedureCallWithinParallelComprehension(
+          this.originalName, referencedIdentifierType, /*isStaticCall=*/true);
+    }
 
     // Now that everything checks out, go ahead and mark the function used to satisfy the compiler checks.
     scopedHeap.markIdentifierUsed(this.name);
@@ -770,16 +778,24 @@ public class FunctionCallExpr extends Expr {
       // names everywhere, I need to strip any prefixing here so that instances of this type created ANYWHERE will
       // definitely evaluate as having the same type.
       String canonicalizedTypeName = this.originalName.substring(this.originalName.lastIndexOf("$") + 1);
+      // All values of this concrete type share a single instance of the type's metadata.
+      String metadata = InternalStaticStateUtil.getRuntimeTypeConstant(
+          "$UserDefinedType.Metadata",
+          String.format(
+              "new $UserDefinedType.Metadata(\"%s\", /*definingModuleDisambiguator=*/\"%s\", /*parameterizedTypes=*/%s, /*wrappedType=*/%s)",
+              canonicalizedTypeName,
+              ScopedHeap.getDefiningModuleDisambiguator(this.optionalOriginatingDepModuleName),
+              this.optionalConcreteGenericTypeParams.orElse(ImmutableList.of()).stream()
+                  .map(Type::getJavaSourceClaroType)
+                  .collect(Collectors.joining(", ", "ImmutableList.of(", ")")),
+              this.representsUserDefinedTypeConstructor.get().getJavaSourceClaroType()
+          )
+      );
       functionCallJavaSourceBody = GeneratedJavaSource.forJavaSourceBody(
           new StringBuilder(
               String.format(
-                  "new $UserDefinedType(\"%s\", /*definingModuleDisambiguator=*/\"%s\", /*parameterizedTypes=*/%s, /*wrappedType=*/%s, /*wrappedValue=*/%s)",
-                  canonicalizedTypeName,
-                  ScopedHeap.getDefiningModuleDisambiguator(this.optionalOriginatingDepModuleName),
-                  this.optionalConcreteGenericTypeParams.orElse(ImmutableList.of()).stream()
-                      .map(Type::getJavaSourceClaroType)
-                      .collect(Collectors.joining(", ", "ImmutableList.of(", ")")),
-                  this.representsUserDefinedTypeConstructor.get().getJavaSourceClaroType(),
+                  "new $UserDefinedType(%s, /*wrappedValue=*/%s)",
+                  metadata,
                   exprsJavaSourceBodyCodegen
               )
           )
@@ -152,6 +152,14 @@ public class ProviderFunctionCallExpr extends Expr {
             .resolvedProcedureType.getIsBlocking().set(true);
       }
     }
+    // Blocking is also forbidden within `parallel` comprehensions, which must not stall the shared thread pool, and any
+    // other calls must be provably side-effect free.
+    if (((Types.ProcedureType) referencedIdentifierType).getAnnotatedBlocking()) {
+      InternalStaticStateUtil.recordBlockingCallWithinParallelComprehension(this.originalName, referencedIdentifierType);
+    } else {
+      InternalStaticStateUtil.recordProcedureCallWithinParallelComprehension(
+          this.originalName, referencedIdentifierType, /*isStaticCall=*/true);
+    }
 
     // Now that everything checks out, go ahead and mark the function used to satisfy the compiler checks.
     scopedHeap.markIdentifierUsed(this.functionName);
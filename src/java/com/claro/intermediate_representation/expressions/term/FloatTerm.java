@@ -29,6 +29,12 @@ final public class FloatTerm extends Term {
     return new StringBuilder().append("Float.valueOf(").append(this.value).append("F)");
   }
 
+  @Override
+  public GeneratedJavaSource generateUnboxedJavaSourceOutput(ScopedHeap scopedHeap) {
+    // No need for the usual boxing of the literal.
+    return GeneratedJavaSource.forJavaSourceBody(new StringBuilder().append(this.value).append("F"));
+  }
+
   @Override
   public Object generateInterpretedOutput(ScopedHeap scopedHeap) {
     return this.value;
@@ -34,6 +34,10 @@ public class IdentifierReferenceTerm extends Term {
     this.optionalDefiningModuleDisambiguator = optionalDefiningModuleDisambiguator;
   }
 
+  public boolean isDepModuleReference() {
+    return this.optionalDefiningModuleDisambiguator.isPresent();
+  }
+
   public IdentifierReferenceTerm withIdentifier(String identifier) {
     return new IdentifierReferenceTerm(identifier, this.optionalDefiningModuleDisambiguator, super.currentLine, super.currentLineNumber, super.startCol, super.endCol);
   }
@@ -206,6 +210,9 @@ public class IdentifierReferenceTerm extends Term {
     if (InternalStaticStateUtil.ComprehensionExpr_nestedComprehensionCollectionsCount >= 0) {
       InternalStaticStateUtil.addNestedCollectionIdentifierReference(this.identifier);
     }
+    // And if it's inside a `parallel` comprehension, it'll need to be checked for mutability.
+    InternalStaticStateUtil.recordIdentifierReferenceWithinParallelComprehension(
+        this.identifier, referencedIdentifierType);
 
     // If this identifier happens to be a lambda capture, then its type must be deeply-immutable otherwise the reference
     // is actually illegal.
@@ -220,6 +227,27 @@ public class IdentifierReferenceTerm extends Term {
 
   @Override
   public StringBuilder generateJavaSourceBodyOutput(ScopedHeap scopedHeap) {
+    StringBuilder res = generateUnboxedJavaSourceBodyOutput(scopedHeap);
+    ScopedHeap.IdentifierData identifierData = scopedHeap.getIdentifierData(this.identifier);
+    if (identifierData.isUnboxedJavaLocal) {
+      // The local is backed by a Java primitive, so it must be boxed wherever it's consumed as a Claro value.
+      res.insert(0, identifierData.type.getJavaSourceType() + ".valueOf(").append(')');
+    }
+    return res;
+  }
+
+  @Override
+  public GeneratedJavaSource generateUnboxedJavaSourceOutput(ScopedHeap scopedHeap) {
+    return GeneratedJavaSource.forJavaSourceBody(generateUnboxedJavaSourceBodyOutput(scopedHeap));
+  }
+
+  public boolean isUnboxedJavaLocal(ScopedHeap scopedHeap) {
+    return scopedHeap.getIdentifierData(this.identifier).isUnboxedJavaLocal;
+  }
+
+  // For any identifier other than a local backed by a Java primitive (see DeclarationStmt) this is no different than
+  // generateJavaSourceBodyOutput().
+  public StringBuilder generateUnboxedJavaSourceBodyOutput(ScopedHeap scopedHeap) {
     ScopedHeap.IdentifierData identifierData = scopedHeap.getIdentifierData(this.identifier);
     identifierData.used = true;
     return new StringBuilder(
@@ -242,8 +270,14 @@ public class IdentifierReferenceTerm extends Term {
                         resourceJarLocation.substring(resourceJarLocation.lastIndexOf("/src/") + "/src/".length());
                   }
                   return String.format(
-                      "new $UserDefinedType(\"Resource\", \"stdlib$files$files\", ImmutableList.of(), %s, %sclass.getResource(\"/%s\"))",
-                      Types.RESOURCE_URL.getJavaSourceClaroType(),
+                      "new $UserDefinedType(%s, %sclass.getResource(\"/%s\"))",
+                      InternalStaticStateUtil.getRuntimeTypeConstant(
+                          "$UserDefinedType.Metadata",
+                          String.format(
+                              "new $UserDefinedType.Metadata(\"Resource\", \"stdlib$files$files\", ImmutableList.of(), %s)",
+                              Types.RESOURCE_URL.getJavaSourceClaroType()
+                          )
+                      ),
                       InternalStaticStateUtil.optionalGeneratedClassName.map(s -> s + ".")
                           .orElseGet(this::getFullySpecifiedIdentifierNamespace),
                       resourceJarLocation
@@ -271,7 +305,7 @@ public class IdentifierReferenceTerm extends Term {
               } else if (identifierData.type.baseType().equals(BaseType.ATOM) && identifierData.isTypeDefinition) {
                 // Here it turns out that we actually need to codegen a lookup into the ATOM CACHE.
                 return String.format(
-                    "%sATOM_CACHE[%s]",
+                    "%sATOM_CACHE.get(%s)",
                     getFullySpecifiedIdentifierNamespace(),
                     InternalStaticStateUtil.AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME.build().get(
                         this.optionalDefiningModuleDisambiguator.orElseGet(
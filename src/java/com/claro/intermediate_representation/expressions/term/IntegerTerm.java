@@ -29,6 +29,12 @@ final public class IntegerTerm extends Term {
     return new StringBuilder().append("Integer.valueOf(").append(this.value).append(")");
   }
 
+  @Override
+  public GeneratedJavaSource generateUnboxedJavaSourceOutput(ScopedHeap scopedHeap) {
+    // No need for the usual boxing of the literal.
+    return GeneratedJavaSource.forJavaSourceBody(new StringBuilder().append(this.value));
+  }
+
   @Override
   public Object generateInterpretedOutput(ScopedHeap scopedHeap) {
     return this.getValue();
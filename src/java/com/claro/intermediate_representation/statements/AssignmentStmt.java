@@ -22,6 +22,10 @@ public class AssignmentStmt extends Stmt {
     this.IDENTIFIER = identifier;
   }
 
+  public String getAssignedIdentifier() {
+    return this.IDENTIFIER.identifier;
+  }
+
   @Override
   public void assertExpectedExprTypes(ScopedHeap scopedHeap) throws ClaroTypeException {
     if (!scopedHeap.isIdentifierDeclared(this.IDENTIFIER.identifier)) {
@@ -88,7 +92,10 @@ public class AssignmentStmt extends Stmt {
   public GeneratedJavaSource generateJavaSourceOutput(ScopedHeap scopedHeap) {
     StringBuilder res = new StringBuilder();
     scopedHeap.initializeIdentifier(this.IDENTIFIER.identifier);
-    GeneratedJavaSource exprGenJavaSource = this.getChildren().get(0).generateJavaSourceOutput(scopedHeap);
+    GeneratedJavaSource exprGenJavaSource =
+        this.IDENTIFIER.isUnboxedJavaLocal(scopedHeap)
+        ? ((Expr) this.getChildren().get(0)).generateUnboxedJavaSourceOutput(scopedHeap)
+        : this.getChildren().get(0).generateJavaSourceOutput(scopedHeap);
     res.append(
         String.format(
             "%s = %s;\n",
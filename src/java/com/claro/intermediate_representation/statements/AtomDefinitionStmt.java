@@ -66,23 +66,22 @@ public class AtomDefinitionStmt extends Stmt {
     return GeneratedJavaSource.forJavaSourceBody(new StringBuilder());
   }
 
+  // Only the atom names are codegen'd here, the atoms themselves are constructed lazily on first reference.
   public static String codegenAtomCacheInit() {
     String definingModuleDisambiguator = ScopedHeap.getDefiningModuleDisambiguator(Optional.empty());
+    String atomNames = "/* No atoms defined in this compilation unit. */";
     if (InternalStaticStateUtil.AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME.build()
         .containsRow(definingModuleDisambiguator)) {
-      return InternalStaticStateUtil.AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME.build()
+      atomNames = InternalStaticStateUtil.AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME.build()
           .rowMap()
           // Only want the atoms defined in this current module.
           .get(definingModuleDisambiguator)
           .entrySet().stream().sorted(Comparator.comparingInt(Map.Entry::getValue))
-          .map(entry -> String.format(
-              "$ClaroAtom.forTypeNameAndDisambiguator(\"%s\", \"%s\")",
-              entry.getKey(),
-              definingModuleDisambiguator
-          ))
+          .map(entry -> String.format("\"%s\"", entry.getKey()))
           .collect(Collectors.joining(", "));
     }
-    return "/* No atoms defined in this compilation unit. Skipping Atom Cache init.*/";
+    return String.format(
+        "new $LazyAtomCache(\"%s\", new String[]{%s})", definingModuleDisambiguator, atomNames);
   }
 
   @Override
@@ -39,7 +39,7 @@ public class BindStmt extends Stmt {
         new StringBuilder(
             String.format(
                 // We're expecting this binding to be executed within a scope that has access to a bindings Map.
-                "Injector.bindings.put(Key.create(\"%s\", %s), %s);\n",
+                "Injector.bind(Key.create(\"%s\", %s), %s);\n",
                 this.name,
                 this.type.getJavaSourceClaroType(),
                 exprGenJavaSource.javaSourceBody().toString()
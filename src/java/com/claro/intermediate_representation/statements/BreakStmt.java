@@ -11,6 +11,9 @@ import java.util.function.Supplier;
 
 public class BreakStmt extends Stmt {
   private final Expr syntheticExprForErrorLogging;
+  // Always break out of the enclosing loop by label, as this stmt may be nested within a `match` that's codegen'd as a
+  // Java `switch` in which case an unlabeled `break;` would only exit the switch.
+  private String enclosingLoopLabel;
 
   public BreakStmt(Supplier<String> currenLineSupplier, int currentLineNumber, int startCol, int endCol) {
     super(ImmutableList.of());
@@ -34,6 +37,7 @@ public class BreakStmt extends Stmt {
     if (!InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody) {
       this.syntheticExprForErrorLogging.logTypeError(ClaroTypeException.forIllegalUseOfBreakStmtOutsideLoopingConstruct());
     }
+    this.enclosingLoopLabel = InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel;
 
     // Mark the hidden variable flag tracking whether there's a return in every branch of this procedure
     // as initialized on this branch.
@@ -42,7 +46,8 @@ public class BreakStmt extends Stmt {
 
   @Override
   public GeneratedJavaSource generateJavaSourceOutput(ScopedHeap scopedHeap) {
-    return GeneratedJavaSource.forJavaSourceBody(new StringBuilder("break;\n"));
+    return GeneratedJavaSource.forJavaSourceBody(
+        new StringBuilder("break ").append(this.enclosingLoopLabel).append(";\n"));
   }
 
   @Override
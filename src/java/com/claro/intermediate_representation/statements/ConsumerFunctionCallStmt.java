@@ -49,6 +49,10 @@ public class ConsumerFunctionCallStmt extends Stmt {
     this.argExprs = args;
   }
 
+  public ImmutableList<Expr> getArgExprs() {
+    return this.argExprs;
+  }
+
   @Override
   public void assertExpectedExprTypes(ScopedHeap scopedHeap) throws ClaroTypeException {
     // Make sure we check this will actually be a valid reference before we allow it.
@@ -6,6 +6,7 @@ import com.claro.intermediate_representation.types.*;
 import com.claro.internal_static_state.InternalStaticStateUtil;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 import java.util.Optional;
@@ -26,6 +27,12 @@ public class DeclarationStmt extends Stmt {
   // Determine whether this is a blocking declaration statement, in which case we'll alter the type checking to expect
   // a future and generate some additional Future::get call to unwrap the future.
   private final boolean blocking;
+  // Numeric locals can be backed directly by a Java primitive so that arithmetic over them (think loop counters) isn't
+  // constantly boxing and unboxing. This is only permitted once ProgramNode has proven that every use of this local
+  // will be codegen'd through IdentifierReferenceTerm, which knows to box the primitive wherever it escapes.
+  private static final ImmutableMap<Type, String> UNBOXED_JAVA_LOCAL_TYPES =
+      ImmutableMap.of(Types.INTEGER, "int", Types.LONG, "long", Types.FLOAT, "float", Types.DOUBLE, "double");
+  private boolean unboxedJavaLocalPermitted = false;
 
   // Constructor for var initialization requesting type inference.
   public DeclarationStmt(String identifier, Expr e) {
@@ -85,6 +92,28 @@ public class DeclarationStmt extends Stmt {
     this.errorProp = false;
   }
 
+  public String getIdentifier() {
+    return this.IDENTIFIER;
+  }
+
+  // Whether this is a plain `var x = ...;`, whose type is determined entirely by its initializer Expr.
+  public boolean isPlainInferredTypeDeclaration() {
+    return !this.optionalIdentifierDeclaredTypeProvider.isPresent()
+           && !this.getChildren().isEmpty()
+           && !this.blocking
+           && !this.errorProp;
+  }
+
+  // Whether this declaration is simple enough to possibly be backed by a Java primitive. Whether or not it actually will
+  // be also depends on its validated type, which is only checked during codegen.
+  public boolean isUnboxedJavaLocalCandidate() {
+    return !this.getChildren().isEmpty() && !this.allowVariableHiding && !this.blocking && !this.errorProp;
+  }
+
+  public void permitUnboxedJavaLocal() {
+    this.unboxedJavaLocalPermitted = true;
+  }
+
   @Override
   public void assertExpectedExprTypes(ScopedHeap scopedHeap) throws ClaroTypeException {
     // Validate that this is not a redeclaration of an identifier.
@@ -191,9 +220,20 @@ public class DeclarationStmt extends Stmt {
         optionalIdentifierDeclaredTypeProvider.orElse((unused) -> identifierValidatedInferredType)
             .resolveType(scopedHeap);
 
+    boolean unboxedJavaLocal =
+        this.unboxedJavaLocalPermitted && UNBOXED_JAVA_LOCAL_TYPES.containsKey(identifierValidatedType);
+
     // First time we're seeing the variable, so declare it.
-    res.append(String.format("%s %s", identifierValidatedType.getJavaSourceType(), this.IDENTIFIER));
+    res.append(
+        String.format(
+            "%s %s",
+            unboxedJavaLocal
+            ? UNBOXED_JAVA_LOCAL_TYPES.get(identifierValidatedType)
+            : identifierValidatedType.getJavaSourceType(),
+            this.IDENTIFIER
+        ));
     scopedHeap.putIdentifierValue(this.IDENTIFIER, identifierValidatedType);
+    scopedHeap.getIdentifierData(this.IDENTIFIER).isUnboxedJavaLocal = unboxedJavaLocal;
 
     GeneratedJavaSource exprGeneratedJavaSource = GeneratedJavaSource.forJavaSourceBody(new StringBuilder());
     // Maybe mark the identifier initialized.
@@ -206,6 +246,8 @@ public class DeclarationStmt extends Stmt {
         // Actually defer the codegen to the AutomaticErrorPropagationStmt if we're doing error propagation.
         exprGeneratedJavaSource =
             this.optionalAutomaticErrorPropagationStmt.get().generateJavaSourceOutput(scopedHeap);
+      } else if (unboxedJavaLocal) {
+        exprGeneratedJavaSource = ((Expr) this.getChildren().get(0)).generateUnboxedJavaSourceOutput(scopedHeap);
       } else {
         exprGeneratedJavaSource = this.getChildren().get(0).generateJavaSourceOutput(scopedHeap);
       }
@@ -21,8 +21,10 @@ public class DecrementStmt extends Stmt {
 
   @Override
   public GeneratedJavaSource generateJavaSourceOutput(ScopedHeap scopedHeap) {
-    return GeneratedJavaSource.forJavaSourceBody(
-        ((Expr) getChildren().get(0)).generateJavaSourceBodyOutput(scopedHeap).append(";"));
+    // The result is discarded anyway, so there's no reason to ever box it.
+    GeneratedJavaSource res = ((Expr) getChildren().get(0)).generateUnboxedJavaSourceOutput(scopedHeap);
+    res.javaSourceBody().append(";");
+    return res;
   }
 
   @Override
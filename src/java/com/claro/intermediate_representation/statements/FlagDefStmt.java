@@ -64,38 +64,38 @@ public class FlagDefStmt extends Stmt {
   }
 
   public StringBuilder generateStaticInitialization(StringBuilder res) {
-    // Flags are always lazily initialized, so declare an additional boolean to track whether the value has been
-    // initialized, and a static init procedure that'll do the init, IFF it hasn't been done yet.
-    String stateVar = this.identifier.identifier + "$isInitialized";
-    res.append("private static boolean ")
-        .append(stateVar)
-        .append(" = false;\n")
-        .append("public static synchronized ")
-        .append(this.resolvedType.getJavaSourceType())
-        .append(" lazyStaticInitializer$")
-        .append(this.identifier.identifier)
-        .append("() {\n" +
-                "  if (!")
-        .append(stateVar)
-        .append(") {\n")
+    // Flags are always lazily initialized, so defer init to a nested holder class whose static init the JVM will run
+    // exactly once, on first access. This way reads after init are lock-free.
+    String holderClass = "$LazyStaticHolder$" + this.identifier.identifier;
+    res.append("private static final class ")
+        .append(holderClass)
+        .append(" {\n")
+        .append("  static {\n\t")
         .append(this.identifier.identifier)
         .append(" = ");
 
     generateFlagClaroTypeInit(res);
 
-    res.append("\n  ")
-        .append(stateVar)
-        .append(" = true;\n")
-        .append("  }\n" +
-                "  return ")
+    res.append("\n  }\n")
+        .append("  private static final ")
+        .append(this.resolvedType.getJavaSourceType())
+        .append(" VALUE = ")
         .append(this.identifier.identifier)
-        .append(";\n}\n");
+        .append(";\n}\n")
+        .append("public static ")
+        .append(this.resolvedType.getJavaSourceType())
+        .append(" lazyStaticInitializer$")
+        .append(this.identifier.identifier)
+        .append("() {\n" +
+                "  return ")
+        .append(holderClass)
+        .append(".VALUE;\n}\n");
     return res;
   }
 
   private void generateFlagClaroTypeInit(StringBuilder res) {
     String javaParsedOptionTypeCast =
-        String.format("(%s)", getJavaSourceParsedOptionType(this.resolvedType, /*primitiveValueTypes=*/false));
+        String.format("(%s)", getJavaSourceParsedOptionType(this.resolvedType));
     if (this.resolvedType.baseType().equals(BaseType.LIST)) {
       res.append("new ClaroList(")
           .append(this.resolvedType.getJavaSourceClaroType())
@@ -112,54 +112,32 @@ public class FlagDefStmt extends Stmt {
     }
   }
 
-  public static String generateAnnotatedOptionField(String flagName, Type type) {
-    StringBuilder res =
-        new StringBuilder("@Option(\n    name = \"")
-            .append(flagName)
-            .append("\",\n    defaultValue = \"");
-
+  public static String generateFlagKindRegistration(String flagName, Type type) {
+    String flagKind;
     switch (type.baseType()) {
       case BOOLEAN:
-        res.append("false");
+        flagKind = "BOOLEAN";
         break;
       case INTEGER:
-        res.append("0");
+        flagKind = "INTEGER";
+        break;
+      case STRING:
+        flagKind = "STRING";
+        break;
+      case LIST:
+        flagKind = "STRING_LIST";
         break;
       default:
-        // Intentionally empty. Use empty string for strings or lists.
-    }
-
-    res.append("\"");
-
-    if (type.baseType().equals(BaseType.LIST)) {
-      res.append(",\n    allowMultiple = true");
+        throw new RuntimeException("Internal Compiler Error! Unsupported Flag Type: " + type);
     }
-
-    res.append("\n)\npublic ")
-        .append(getJavaSourceParsedOptionType(type, /*primitiveValueTypes=*/true))
-        .append(" flag$")
-        .append(flagName)
-        .append(";");
-
-    return res.toString();
+    return String.format(
+        "      .put(\"%s\", com.claro.runtime_utilities.flags.$Flags.FlagKind.%s)\n", flagName, flagKind);
   }
 
-  private static String getJavaSourceParsedOptionType(Type type, boolean primitiveValueTypes) {
+  private static String getJavaSourceParsedOptionType(Type type) {
     if (type.baseType().equals(BaseType.LIST)) {
       return String.format("List<%s>", ((Types.ListType) type).getElementType().getJavaSourceType());
     }
-    if (primitiveValueTypes) {
-      switch (type.baseType()) {
-        case BOOLEAN:
-          return "boolean";
-        case INTEGER:
-          return "int";
-        case STRING:
-          return "String"; // Would've done this anyway, but explicitly for consistency...
-        default:
-          throw new RuntimeException("Internal Compiler Error! Unsupported Flag Type: " + type);
-      }
-    }
     return type.getJavaSourceType();
   }
 
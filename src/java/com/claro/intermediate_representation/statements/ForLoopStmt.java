@@ -15,10 +15,12 @@ public class ForLoopStmt extends Stmt {
 
   private static final ImmutableSet<BaseType> SUPPORTED_COLLECTION_TYPES =
       ImmutableSet.of(BaseType.LIST, BaseType.SET, BaseType.MAP);
+  private static long globalForLoopCount = 0;
 
   private final IdentifierReferenceTerm itemName;
   private final Expr iteratedExpr;
   private final StmtListNode stmtListNode;
+  private final String loopLabel;
   private BaseType validatedIteratedExprBaseType;
   private Type validatedItemType;
 
@@ -27,6 +29,7 @@ public class ForLoopStmt extends Stmt {
     this.itemName = itemName;
     this.iteratedExpr = iteratedExpr;
     this.stmtListNode = stmtListNode;
+    this.loopLabel = "$ForLoop" + ForLoopStmt.globalForLoopCount++;
   }
 
   @Override
@@ -80,12 +83,15 @@ public class ForLoopStmt extends Stmt {
     scopedHeap.initializeIdentifier(this.itemName.identifier);
 
     boolean original_withinLoopingConstructBody = InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody;
+    String original_innermostLoopLabel = InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel;
     InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody = true;
+    InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel = this.loopLabel;
 
     // Finally validate the body.
     this.stmtListNode.assertExpectedExprTypes(scopedHeap);
 
     InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody = original_withinLoopingConstructBody;
+    InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel = original_innermostLoopLabel;
     scopedHeap.exitCurrObservedScope(false);
   }
 
@@ -105,7 +111,8 @@ public class ForLoopStmt extends Stmt {
         bodyStmtListJavaSource.withNewJavaSourceBody(
             new StringBuilder(
                 String.format(
-                    "for (%s %s : %s) {\n%s\n}\n",
+                    "%s: for (%s %s : %s) {\n%s\n}\n",
+                    this.loopLabel,
                     this.validatedItemType.getJavaSourceType(),
                     this.itemName.identifier,
                     iteratedExprJavaSource.javaSourceBody().toString(),
@@ -12,6 +12,7 @@ import com.google.common.collect.ImmutableSet;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class GraphNodeDefinitionStmt extends Stmt {
 
@@ -29,6 +30,10 @@ public class GraphNodeDefinitionStmt extends Stmt {
 
   // We'll validate that graph functions are acyclic by verifying that each node is only type-checked exactly once.
   private boolean alreadyValidated = false;
+  // Memoized nodes share their results across all invocations of the graph w/ equal args (and injected values).
+  private boolean isMemoized = false;
+  // Memoized computations aren't part of any one invocation, so they're traced under the graph's name on their own.
+  private String graphProcedureName;
 
   public GraphNodeDefinitionStmt(String nodeName, Expr nodeExpr) {
     super(ImmutableList.of());
@@ -39,6 +44,11 @@ public class GraphNodeDefinitionStmt extends Stmt {
     InternalStaticStateUtil.GraphNodeDefinitionStmt_upstreamGraphNodeReferencesBuilder = ImmutableSet.builder();
   }
 
+  public GraphNodeDefinitionStmt markMemoized() {
+    this.isMemoized = true;
+    return this;
+  }
+
   // Register this GraphNode's TypeProvider prior to performing type checking so that nodes may reference each other out
   // of declaration order.
   public void registerGraphNodeTypeProvider(ScopedHeap scopedHeap) {
@@ -140,6 +150,16 @@ public class GraphNodeDefinitionStmt extends Stmt {
     InternalStaticStateUtil.GraphNodeDefinitionStmt_upstreamGraphNodeProviderReferencesBuilder =
         priorUpstreamGraphNodeProviderReferencesBuilder;
 
+    this.graphProcedureName =
+        ((ProcedureDefinitionStmt)
+             InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureDefinitionStmt.get())
+            .procedureName;
+    // A memoized node's result is keyed only on the graph's inputs, so it can't also depend on per-invocation results.
+    if (this.isMemoized && !this.upstreamGraphNodeReferences.isEmpty()) {
+      this.nodeExpr.logTypeError(
+          ClaroTypeException.forMemoizedGraphNodeDependsOnOtherNodes(this.graphProcedureName, this.nodeName));
+    }
+
     // Very last thing that's extremely important is forbidding the use of mutable data as a graph node output type.
     // This is a rigid restriction, but doing so (in concert w/ forbidding mutable graph inputs) gives a guarantee that
     // the inherently multithreaded computation represented by the graph is **DATA RACE FREE BY CONSTRUCTION**.
@@ -179,9 +199,24 @@ public class GraphNodeDefinitionStmt extends Stmt {
                     this.actualNodeType.getJavaSourceType(),
                     optionalAlreadyScheduledFutureStr
                 ))
+            .append(
+                this.isMemoized
+                ? String.format(
+                    "\tprivate static final com.claro.runtime_utilities.GraphNodeMemoCache<%s> $%s_memoCache =\n" +
+                    "\t\tnew com.claro.runtime_utilities.GraphNodeMemoCache<>();\n",
+                    getNodeValueType().getJavaSourceType(),
+                    this.nodeName
+                )
+                : "")
+            // Only used if GraphMetrics are enabled at runtime.
+            .append(String.format("\tprivate long $%s_scheduledNanos;\n", this.nodeName))
             .append(
                 generateGraphNodeAsyncMethod(
                     scopedHeap, optionalAlreadyScheduledFutureStr, propagatedGraphFunctionArgsAndInjectedKeys, propagatedGraphFunctionArgsAndInjectedKeysValues))
+            .append(
+                this.isMemoized
+                ? generateMemoizedGraphNodeAsyncMethod(propagatedGraphFunctionArgsAndInjectedKeys)
+                : new StringBuilder())
             .append(
                 generateGraphNodeImplMethod(
                     scopedHeap, nodeBodyGeneratedJavaSource, propagatedGraphFunctionArgsAndInjectedKeys))
@@ -195,8 +230,11 @@ public class GraphNodeDefinitionStmt extends Stmt {
       ScopedHeap scopedHeap,
       GeneratedJavaSource nodeBodyGeneratedJavaSource,
       StringBuilder propagatedGraphFunctionArgsAndInjectedKeys) {
+    // A memoized node's body runs under its own context rather than that of whichever invocation happened to schedule it,
+    // so it doesn't touch any invocation's state at all.
+    String context = this.isMemoized ? "$memoContext" : "this.$context";
     return new StringBuilder()
-        .append("\tprivate ")
+        .append(this.isMemoized ? "\tprivate static " : "\tprivate ")
         .append(this.actualNodeType.equals(Types.UNDECIDED) ? "Void" : this.actualNodeType.getJavaSourceType())
         .append(" $")
         .append(this.nodeName)
@@ -229,13 +267,44 @@ public class GraphNodeDefinitionStmt extends Stmt {
                         ", ", "", propagatedGraphFunctionArgsAndInjectedKeys.length() > 0 &&
                                   upstreamGraphNodeReferences.size() > 0 ? ", " : "")))
         .append(propagatedGraphFunctionArgsAndInjectedKeys)
+        .append(
+            this.isMemoized
+            ? String.format(
+                "%scom.claro.runtime_utilities.GraphInvocationContext $memoContext, " +
+                "com.claro.runtime_utilities.GraphMetrics.Trace $memoTrace, long $memoScheduledNanos",
+                propagatedGraphFunctionArgsAndInjectedKeys.length() > 0 ? ", " : ""
+            )
+            : "")
         .append(") {\n")
+        // Nodes that were scheduled before their invocation was cancelled still shouldn't bother doing any work.
+        .append(String.format("\t\t%s.throwIfCancelled();\n", context))
+        .append("\t\tcom.claro.runtime_utilities.GraphInvocationContext $prevContext =\n")
+        .append(
+            String.format("\t\t\tcom.claro.runtime_utilities.GraphInvocationContext.enter(%s);\n", context))
+        .append("\t\tlong $execStartNanos = com.claro.runtime_utilities.GraphMetrics.ENABLED ? System.nanoTime() : 0L;\n")
+        .append("\t\ttry {\n")
         // This allows things like lambdas to work within nodes as well.
         .append(Stmt.consumeGeneratedJavaSourceStmtsBeforeCurrentStmt())
         .append("\n\t\t")
         .append(this.actualNodeType.equals(Types.UNDECIDED) ? "" : "return ")
         .append(nodeBodyGeneratedJavaSource.javaSourceBody())
         .append(this.actualNodeType.equals(Types.UNDECIDED) ? "\t\treturn null;\n" : ";\n")
+        .append("\t\t} finally {\n")
+        .append("\t\t\tcom.claro.runtime_utilities.GraphInvocationContext.exit($prevContext);\n")
+        .append("\t\t\tif (com.claro.runtime_utilities.GraphMetrics.ENABLED) {\n")
+        .append(
+            String.format(
+                "\t\t\t\tcom.claro.runtime_utilities.GraphMetrics.recordNode(" +
+                "%s, \"%s\", %s, $execStartNanos, System.nanoTime(), %s);\n",
+                this.isMemoized ? "$memoTrace" : "this.$trace",
+                this.nodeName,
+                this.isMemoized ? "$memoScheduledNanos" : String.format("this.$%s_scheduledNanos", this.nodeName),
+                // Note that for a root node that produces a future itself, this only marks when that future was
+                // produced, not when it completes.
+                this.optionalExpectedNodeType.isPresent()
+            ))
+        .append("\t\t\t}\n")
+        .append("\t\t}\n")
         .append("\t}\n");
   }
 
@@ -269,11 +338,20 @@ public class GraphNodeDefinitionStmt extends Stmt {
       res.append(String.format(
           "\t\tif (%s.isPresent()) {\n" +
           "\t\t\treturn %s.get();\n" +
-          "\t\t}\n",
+          "\t\t}\n" +
+          // Lazily requested nodes may be first scheduled after the invocation was already cancelled.
+          "\t\tthis.$context.throwIfCancelled();\n",
           optionalAlreadyScheduledFutureStr,
           optionalAlreadyScheduledFutureStr
       ));
     }
+    res.append(
+        String.format(
+            "\t\tif (com.claro.runtime_utilities.GraphMetrics.ENABLED) {\n" +
+            "\t\t\tthis.$%s_scheduledNanos = System.nanoTime();\n" +
+            "\t\t}\n",
+            this.nodeName
+        ));
 
     // We have different depsFuture type based on the number of upstream deps.
     if (upstreamGraphNodeReferences.size() - upstreamGraphNodeProviderReferences.size() > 0) {
@@ -438,7 +516,33 @@ public class GraphNodeDefinitionStmt extends Stmt {
       // Claro allows nodes to be defined by Exprs that are already of type future<...> so that graph functions can be
       // naturally composed. If this node expr is already a future, then we do not need to schedule any work on an
       // executor since that will have already been handled.
-      if (this.actualNodeType.baseType().equals(BaseType.FUTURE)) {
+      if (this.isMemoized) {
+        // Type checking has already guaranteed that memoized nodes have no upstream deps (lazy or otherwise).
+        String memoizedNodeInputs = getMemoizedNodeInputs();
+        res.append(
+            String.format(
+                "\t\t\tnew ClaroFuture(%s, $%s_memoCache.getOrSchedule(\n" +
+                "\t\t\t\t() -> $%s_memoizedNodeAsync(%s),\n" +
+                "\t\t\t\tnew Object[]{%s}));\n",
+                getNodeValueType().getJavaSourceClaroType(),
+                this.nodeName,
+                this.nodeName,
+                memoizedNodeInputs,
+                memoizedNodeInputs
+            ));
+        // The memoized computation is traced on its own, so this invocation's trace just records when it got the result.
+        res.append(
+            String.format(
+                "\t\tif (com.claro.runtime_utilities.GraphMetrics.ENABLED) {\n" +
+                "\t\t\tnodeFuture.addListener(\n" +
+                "\t\t\t\t() -> com.claro.runtime_utilities.GraphMetrics.recordMemoizedNodeAwaited(\n" +
+                "\t\t\t\t\tthis.$trace, \"%s\", this.$%s_scheduledNanos, System.nanoTime()),\n" +
+                "\t\t\t\tcom.google.common.util.concurrent.MoreExecutors.directExecutor());\n" +
+                "\t\t}\n",
+                this.nodeName,
+                this.nodeName
+            ));
+      } else if (this.actualNodeType.baseType().equals(BaseType.FUTURE)) {
         res.append(
             String.format(
                 "\t\t\t$%s_nodeImpl(\n%s;\n",
@@ -464,6 +568,17 @@ public class GraphNodeDefinitionStmt extends Stmt {
               "\t\t%s = Optional.of(nodeFuture);\n",
               optionalAlreadyScheduledFutureStr
           ));
+    } else if (this.actualNodeType.equals(Types.UNDECIDED)) {
+      // Even though nobody can observe a Graph Consumer's root future, binding it still applies any configured deadline.
+      res.append("\t\tthis.$context.bindRoot(nodeFuture);\n");
+    } else {
+      // The root node's future is what's handed back to the caller, so cancelling it (or hitting the invocation's
+      // deadline) cancels the rest of the graph.
+      res.append(
+          String.format(
+              "\t\tnodeFuture = new ClaroFuture(%s, this.$context.bindRoot(nodeFuture));\n",
+              getNodeValueType().getJavaSourceClaroType()
+          ));
     }
 
     if (!this.actualNodeType.equals(Types.UNDECIDED)) {
@@ -474,6 +589,60 @@ public class GraphNodeDefinitionStmt extends Stmt {
     return res;
   }
 
+  // Each memoized computation gets its own detached context and trace, so that it has its own deadline, is cancelled
+  // only once every invocation awaiting it has given up, and isn't attributed to whichever invocation scheduled it.
+  private StringBuilder generateMemoizedGraphNodeAsyncMethod(StringBuilder propagatedGraphFunctionArgsAndInjectedKeys) {
+    String memoizedNodeInputs = getMemoizedNodeInputs();
+    String nodeImplCall =
+        String.format(
+            "$%s_nodeImpl(%s%s$memoContext, $memoTrace, $memoScheduledNanos)",
+            this.nodeName,
+            memoizedNodeInputs,
+            memoizedNodeInputs.isEmpty() ? "" : ", "
+        );
+    return new StringBuilder()
+        .append(
+            String.format(
+                "\tprivate static com.google.common.util.concurrent.ListenableFuture<%s> $%s_memoizedNodeAsync(%s) {\n",
+                getNodeValueType().getJavaSourceType(),
+                this.nodeName,
+                propagatedGraphFunctionArgsAndInjectedKeys
+            ))
+        .append("\t\tcom.claro.runtime_utilities.GraphInvocationContext $memoContext =\n")
+        .append("\t\t\tcom.claro.runtime_utilities.GraphInvocationContext.createDetached();\n")
+        .append("\t\tcom.claro.runtime_utilities.GraphMetrics.Trace $memoTrace =\n")
+        .append(
+            String.format(
+                "\t\t\tcom.claro.runtime_utilities.GraphMetrics.newTraceIfEnabled(\"%s\");\n",
+                this.graphProcedureName
+            ))
+        .append("\t\tlong $memoScheduledNanos = com.claro.runtime_utilities.GraphMetrics.ENABLED ? System.nanoTime() : 0L;\n")
+        .append("\t\treturn $memoContext.bindRoot(\n")
+        .append(
+            this.actualNodeType.baseType().equals(BaseType.FUTURE)
+            ? String.format("\t\t\t%s);\n", nodeImplCall)
+            : String.format("\t\t\tClaroRuntimeUtilities.DEFAULT_EXECUTOR_SERVICE.submit(() -> %s));\n", nodeImplCall))
+        .append("\t}\n");
+  }
+
+  // Memoized nodes may only depend on the graph's args and injected values, which also make up their memo cache key.
+  private static String getMemoizedNodeInputs() {
+    return Stream.concat(
+            InternalStaticStateUtil.GraphProcedureDefinitionStmt_graphFunctionArgs.keySet().stream(),
+            InternalStaticStateUtil.GraphProcedureDefinitionStmt_graphFunctionOptionalInjectedKeys
+                .map(injectedKeys -> injectedKeys.keySet().stream())
+                .orElse(Stream.empty())
+        )
+        .collect(Collectors.joining(", "));
+  }
+
+  // Claro Graph Functions automatically unwrap Future types, so this is the type of the value this node produces.
+  private Type getNodeValueType() {
+    return this.actualNodeType.baseType().equals(BaseType.FUTURE)
+           ? this.actualNodeType.parameterizedTypeArgs().get("$value")
+           : this.actualNodeType;
+  }
+
   private StringBuilder generatePropagatedFunctionArgsAndInjectedKeys(ScopedHeap scopedHeap) {
     return new StringBuilder()
         .append(
@@ -293,7 +293,13 @@ public class GraphProcedureDefinitionStmt extends ProcedureDefinitionStmt {
     // called multiple times concurrently without the cache being accidentally reused.
     GeneratedJavaSource res = GeneratedJavaSource.forJavaSourceBody(
         new StringBuilder()
-            .append("\tprivate static class $GraphAsyncImpl {\n"));
+            .append("\tprivate static class $GraphAsyncImpl {\n")
+            .append("\t\tprivate final com.claro.runtime_utilities.GraphMetrics.Trace $trace =\n")
+            .append("\t\t\tcom.claro.runtime_utilities.GraphMetrics.newTraceIfEnabled(\"")
+            .append(this.procedureName)
+            .append("\");\n")
+            .append("\t\tprivate final com.claro.runtime_utilities.GraphInvocationContext $context =\n")
+            .append("\t\t\tcom.claro.runtime_utilities.GraphInvocationContext.create();\n"));
 
     res = res.createMerged(rootNode.generateJavaSourceOutput(scopedHeap));
     for (GraphNodeDefinitionStmt node : nonRootNodes) {
@@ -55,6 +55,15 @@ public class IfStmt extends Stmt {
     return conditionStack;
   }
 
+  // Every condition Expr in this if-else chain along w/ the body that it guards.
+  public ImmutableList<IfStmt> getConditionClauses() {
+    return ImmutableList.copyOf(this.conditionStack);
+  }
+
+  public Optional<StmtListNode> getOptionalTerminalElseClause() {
+    return this.optionalTerminalElseClause;
+  }
+
   @Override
   public void assertExpectedExprTypes(ScopedHeap scopedHeap) throws ClaroTypeException {
     boolean enableBranchInspection = optionalTerminalElseClause.isPresent();
@@ -63,10 +72,10 @@ public class IfStmt extends Stmt {
       // Need to make note of the fact that now we're doing condition type validation so that we can actually
       // handle type-narrowing of oneofs in the case that the user has written an equality check on a oneof type
       // against a concrete type.
-      InternalStaticStateUtil.IfStmt_withinConditionTypeValidation = true;
+      InternalStaticStateUtil.IfStmt_withinConditionTypeValidation.set(true);
       Expr conditionExpr = (Expr) ifStmt.getChildren().get(0);
       conditionExpr.assertExpectedExprType(scopedHeap, Types.BOOLEAN);
-      InternalStaticStateUtil.IfStmt_withinConditionTypeValidation = false;
+      InternalStaticStateUtil.IfStmt_withinConditionTypeValidation.set(false);
 
       scopedHeap.observeNewScope(enableBranchInspection);
 
@@ -50,6 +50,10 @@ public class ListElementAssignmentStmt extends Stmt {
     this.errorProp = errorProp;
   }
 
+  public boolean isErrorPropagating() {
+    return this.errorProp;
+  }
+
   @Override
   public void assertExpectedExprTypes(ScopedHeap scopedHeap) throws ClaroTypeException {
     // First thing first, we need to actually validate that we're correctly referencing a collection type.
@@ -7,6 +7,8 @@ import com.claro.intermediate_representation.expressions.procedures.functions.Fu
 import com.claro.intermediate_representation.expressions.procedures.functions.StructuralConcreteGenericTypeValidationUtil;
 import com.claro.intermediate_representation.expressions.term.*;
 import com.claro.intermediate_representation.types.*;
+import com.claro.internal_static_state.InternalStaticStateUtil;
+import com.claro.stdlib.StdLibModuleRegistry;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -24,6 +26,9 @@ import java.util.stream.IntStream;
 
 public class MatchStmt extends Stmt {
   private static long globalMatchCount = 0;
+  // Groups of at least this many distinct atom cases will be dispatched via a switch over the matched atom's index in
+  // its defining module's ATOM_CACHE rather than a chain of Type equality checks.
+  private static final int MIN_TYPE_LITERAL_CASES_FOR_JUMP_TABLE = 4;
   private final Expr matchedExpr;
   private ImmutableList<ImmutableList<Object>> cases;
   private final ImmutableList<ImmutableList<Object>> originalCases;
@@ -1521,22 +1526,43 @@ public class MatchStmt extends Stmt {
     Type firstGroupCasePatternImpliedType = firstGroupCasePattern.toImpliedType(scopedHeap);
     boolean needExtraRCurly = false;
     String currMatchedValIdentifier = String.format("$%sv%s", currMatchedValIdentifierPrefix, startInd);
+    // Only populated if this group's type literal cases will be dispatched via a jump table.
+    ImmutableList<Type> typeLiteralJumpTableCases = ImmutableList.of();
+    Optional<String> optionalJumpTableAtomCache = Optional.empty();
+    if (firstGroupCasePattern.getOptionalExpr().isPresent()
+        && firstGroupCasePattern.getOptionalExpr().get() instanceof TypeProvider) {
+      ImmutableList<Type> distinctTypeLiteralCases = getDistinctTypeLiteralCases(switchGroup, startInd, scopedHeap);
+      if (distinctTypeLiteralCases.size() >= MatchStmt.MIN_TYPE_LITERAL_CASES_FOR_JUMP_TABLE) {
+        optionalJumpTableAtomCache = getSharedAtomCacheCodegen(distinctTypeLiteralCases);
+        if (optionalJumpTableAtomCache.isPresent()) {
+          typeLiteralJumpTableCases = distinctTypeLiteralCases;
+        }
+      }
+    }
 
     if (firstGroupCasePatternImpliedType.equals(Types.BOOLEAN)) {
       res.get().javaSourceBody().append("if (").append(currMatchedValIdentifier);
       if (firstGroupCasePattern.getOptionalExpr().get().equals(Boolean.FALSE)) {
         res.get().javaSourceBody().append(" == false");
       }
+    } else if (!typeLiteralJumpTableCases.isEmpty()) {
+      // Rather than checking the matched value's type against each case's type one after the other, switch directly on
+      // the matched atom's index in the ATOM_CACHE that all of the cases share. Atoms are singletons within their
+      // defining module's ATOM_CACHE so the index is as good as the type itself, and the JVM compiles this down to a
+      // tableswitch over ints rather than needing to hash the runtime Type. Any atom defined by some other module
+      // falls through to -1, matching no case.
+      res.get().javaSourceBody()
+          .append("switch (")
+          .append(currMatchedValIdentifier)
+          .append(" instanceof $ClaroAtom ? (($ClaroAtom) ")
+          .append(currMatchedValIdentifier)
+          .append(").getAtomCacheIndexWithin(")
+          .append(optionalJumpTableAtomCache.get())
+          .append(") : -1");
     } else if (firstGroupCasePattern.getOptionalExpr().isPresent()
                && firstGroupCasePattern.getOptionalExpr().get() instanceof TypeProvider) {
-      // TODO(steving) At some point I can probably gain a tiny optimization by just switching over the type's hashcode
-      //   instead of doing a series of if-stmts. To be safe, I should of course first put in a sanity check that for
-      //   this current oneof's variants, all hashcodes are *actually* different. In the case that they're not, probably
-      //   would be simplest to just maintain this current if-stmt approach (Maybe just for the collisions? i.e.
-      //   encoding the dynamic logic of a hashtable lookup in the static codegen..). For now, I don't necessarily want
-      //   to commit to this as I'm not 100% sure of all implications relating to what happens if hashcode impls change
-      //   over time in relation to already compiled code....since Claro doesn't have a module system yet, I don't want
-      //   to pretend that I know those implications in advance.
+      // Either there are few enough cases here that a short chain of equality checks is just as cheap as a switch, or
+      // the cases aren't all atoms from a single module so there's no shared ATOM_CACHE index to switch over.
       res.get().javaSourceBody().append("if (ClaroRuntimeUtilities.getClaroType(")
           .append(currMatchedValIdentifier)
           .append(").equals(")
@@ -1713,6 +1739,20 @@ public class MatchStmt extends Stmt {
           res.get().javaSourceBody().append("} else {");
           firstGroupCasePattern = null; // I'm a monster.
         }
+      } else if (!typeLiteralJumpTableCases.isEmpty()) {
+        res.get()
+            .javaSourceBody()
+            .append("\tcase ")
+            .append(getAtomCacheIndex((Types.AtomType) currCase.get()).get())
+            .append(": {\n");
+        codegenDestructuredSequenceMatch(
+            caseGroup, flattenedPatternTypes,
+            startInd + 1, res, matchedValIdentifier, scopedHeap, matchId, currMatchedValIdentifierPrefix
+        );
+        if (syntheticTrailingBreakNeeded) {
+          res.get().javaSourceBody().append("break;\n");
+        }
+        res.get().javaSourceBody().append("}\n");
       } else if (firstGroupCasePattern.getOptionalExpr().isPresent()
                  && firstGroupCasePattern.getOptionalExpr().get() instanceof TypeProvider) {
         codegenDestructuredSequenceMatch(
@@ -1760,6 +1800,59 @@ public class MatchStmt extends Stmt {
     }
   }
 
+  private static ImmutableList<Type> getDistinctTypeLiteralCases(
+      Stack<ImmutableList<Object>> switchGroup, int startInd, ScopedHeap scopedHeap) {
+    return switchGroup.stream()
+        .map(p -> ((TypeProvider) ((ImmutableList<MaybeWildcardPrimitivePattern>) p.get(0)).get(startInd)
+            .getOptionalExpr().get()).resolveType(scopedHeap))
+        .distinct()
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  // Returns the codegen'd reference to the ATOM_CACHE that defines every one of the given types, or empty if they aren't
+  // all atoms defined within one and the same module.
+  private static Optional<String> getSharedAtomCacheCodegen(ImmutableList<Type> types) {
+    if (!types.stream().allMatch(
+        t -> t.baseType().equals(BaseType.ATOM) && getAtomCacheIndex((Types.AtomType) t).isPresent())) {
+      return Optional.empty();
+    }
+    ImmutableSet<String> definingModuleDisambiguators =
+        types.stream()
+            .map(t -> ((Types.AtomType) t).getDefiningModuleDisambiguator())
+            .collect(ImmutableSet.toImmutableSet());
+    if (definingModuleDisambiguators.size() != 1) {
+      return Optional.empty();
+    }
+    String definingModuleDisambiguator = definingModuleDisambiguators.asList().get(0);
+    if (definingModuleDisambiguator.equals(ScopedHeap.getDefiningModuleDisambiguator(Optional.empty()))) {
+      return Optional.of("ATOM_CACHE");
+    } else if (definingModuleDisambiguator.equals(StdLibModuleRegistry.STDLIB_MODULE_DISAMBIGUATOR)) {
+      return Optional.of(
+          String.format(
+              "%s.%s.ATOM_CACHE", StdLibModuleRegistry.STDLIB_MODULE_PACKAGE,
+              StdLibModuleRegistry.STDLIB_MODULE_DISAMBIGUATOR
+          ));
+    }
+    return ScopedHeap.getModuleNameFromDisambiguator(definingModuleDisambiguator)
+        .flatMap(moduleName ->
+                     Optional.ofNullable(ScopedHeap.currProgramDepModules.rowMap().get(moduleName))
+                         .flatMap(m -> m.values().stream().findFirst()))
+        .map(m -> String.format("%s.%s.ATOM_CACHE", m.getProjectPackage(), m.getUniqueModuleName()));
+  }
+
+  // Atoms defined in the current module are registered under their plain name, while those defined in dep modules are
+  // registered under a name suffixed w/ their defining module's disambiguator.
+  private static Optional<Integer> getAtomCacheIndex(Types.AtomType atomType) {
+    String definingModuleDisambiguator = atomType.getDefiningModuleDisambiguator();
+    Integer res = InternalStaticStateUtil.AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME.build()
+        .get(definingModuleDisambiguator, atomType.getName());
+    if (res == null) {
+      res = InternalStaticStateUtil.AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME.build().get(
+          definingModuleDisambiguator, String.format("%s$%s", atomType.getName(), definingModuleDisambiguator));
+    }
+    return Optional.ofNullable(res);
+  }
+
   private static int countWildcardFromInd(ImmutableList<MaybeWildcardPrimitivePattern> l, int i) {
     int count = 0;
     while (i < l.size() && !l.get(i).getOptionalExpr().isPresent()) {
@@ -259,7 +259,7 @@ public class ModuleDefinitionStmt extends Stmt {
                 new StringBuilder(
                     ModuleDefinitionStmt.this.boundKeySet.stream()
                         .map(
-                            key -> String.format("Injector.bindings.remove(Key.create(\"%s\", %s));\n", key.getName(), key.getType()
+                            key -> String.format("Injector.unbind(Key.create(\"%s\", %s));\n", key.getName(), key.getType()
                                 .getJavaSourceClaroType()))
                         .collect(Collectors.joining()))
                     .append(
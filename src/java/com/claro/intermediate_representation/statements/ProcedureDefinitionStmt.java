@@ -19,6 +19,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class ProcedureDefinitionStmt extends Stmt {
 
@@ -374,125 +375,7 @@ public class ProcedureDefinitionStmt extends Stmt {
         return; // Done after checking concrete signatures.
       }
 
-      // Before I step through the procedure body, I'll need to make sure I set this instance as the
-      // currently active ProcedureDefStmt and then save old one to restore.
-      Optional<Object> priorActiveProcedureDefStmt =
-          InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureDefinitionStmt;
-      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureDefinitionStmt = Optional.of(this);
-      Optional<Type> priorActiveProcedureResolvedType =
-          InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureResolvedType;
-      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureResolvedType =
-          Optional.of(this.resolvedProcedureType);
-      Optional<ArrayListMultimap> priorGenericProcedureDefRequiredContractNamesToGenericArgs =
-          InternalStaticStateUtil.LambdaExpr_optionalActiveGenericProcedureDefRequiredContractNamesToGenericArgs;
-
-      // Before I do any actual validation of this current ProcedureDefinitionStmt, I actually want to
-      // first defer downstream to all directly depended upon (via procedure call) ProcedureDefinitionStmts
-      // so that they can update my
-
-      // this::registerTypeProvider should've already been called during the procedure resolution phase, so we
-      // can now already assume that this type is registered in this scope.
-
-      // Enter the new scope for this procedure.
-      scopedHeap.observeNewScope(
-          false,
-          isLambdaType ? ScopedHeap.Scope.ScopeType.LAMBDA_SCOPE : ScopedHeap.Scope.ScopeType.FUNCTION_SCOPE
-      );
-
-      // Now that we're in the procedure's scope, let's allow ReturnStmts temporarily.
-      ReturnStmt.enterProcedureScope(this.procedureName, this.resolvedProcedureType.hasReturnValue());
-      String hiddenReturnTypeVariableFlagName = getHiddenReturnTypeVariableFlagName();
-      // There's some setup we'll need to do if this procedure expects an output.
-      if (this.resolvedProcedureType.hasReturnValue()) {
-        // We'll abuse the variable usage checking implementation to validate that we've put a ReturnStmt
-        // along every branch of the procedure. So we'll put a hidden variable in the procedure's Scope
-        // and then everywhere where a ReturnStmt is located, we'll mark that variable as "initialized".
-        // By this approach, we simply need to check if that hidden variable "is initialized" on the last
-        // line of the function, and if it's not, then we know there must be a ReturnStmt missing! Damn,
-        // sometimes I even impress myself with my laziness...err creativity....
-        scopedHeap.observeIdentifier(hiddenReturnTypeVariableFlagName, Types.BOOLEAN);
-      }
-
-      // I may need to mark the args as observed identifiers within this new scope.
-      Consumer<ImmutableMap<String, Type>> observeAndInitializeIdentifiers =
-          identifierTypeMap -> identifierTypeMap.forEach(
-              (argName, argType) ->
-              {
-                scopedHeap.observeIdentifierAllowingHiding(argName, argType);
-                scopedHeap.initializeIdentifier(argName);
-              }
-          );
-      if (resolvedProcedureType.hasArgs()) {
-        observeAndInitializeIdentifiers.accept(this.optionalArgTypesByNameMap.get());
-      }
-      // Similarly, in case this procedure has injected dependencies, mark the keys as observed identifiers.
-      // But, first validate that all keys are imported with unique local names (or aliases).
-      if (optionalInjectedKeysToAliasMap.isPresent()) {
-        HashSet<String> uniqueInjectedLocalNames = new HashSet<>(optionalInjectedKeysToAliasMap.get().size());
-        HashSet<String> duplicateInjectedLocalNames = new HashSet<>();
-        for (Map.Entry<Key, Optional<String>> injectedLocalName : optionalInjectedKeysToAliasMap.get().entrySet()) {
-          String localName = injectedLocalName.getValue().orElse(injectedLocalName.getKey().getName());
-          if (!uniqueInjectedLocalNames.add(localName)) {
-            // We ended up finding some conflicting local names.
-            duplicateInjectedLocalNames.add(localName);
-          }
-        }
-        if (!duplicateInjectedLocalNames.isEmpty()) {
-          throw ClaroTypeException.forDuplicateInjectedLocalNames(
-              this.procedureName, this.resolvedProcedureType, duplicateInjectedLocalNames);
-        }
-      }
-      optionalInjectedKeysToAliasMap
-          .map(
-              keysToAliasMap ->
-                  keysToAliasMap.entrySet().stream()
-                      .collect(
-                          ImmutableMap.toImmutableMap(
-                              entry -> entry.getValue().orElse(entry.getKey().getName()),
-                              entry -> entry.getKey().getType()
-                          )))
-          .ifPresent(observeAndInitializeIdentifiers);
-
-      // Do setup for any subclasses who need to customize some setup within the function scope for type checking sake.
-      this.subclassSetupFunctionBodyScopeCallback(scopedHeap);
-
-      // Now from here step through the function body. Just assert expected types on the StmtListNode.
-      ((StmtListNode) this.getChildren().get(0)).assertExpectedExprTypes(scopedHeap);
-
-      // Do a one time cleanup of any procedure deps that we don't need filtered because they show up both inside
-      // and outside of using blocks.
-      this.directTopLevelProcedureDepsSet.forEach(
-          this.directTopLevelProcedureDepsToBeFilteredForExplicitUsingBlockKeyBindings::remove);
-
-      // In case this was a lambda expression that made reference to implicitly captured variables
-      // in the outer scope, we need to find and mark them so that we can handle them during interpretation.
-      lambdaScopeCapturedVariables =
-          ImmutableMap.copyOf(scopedHeap.scopeStack.peek().lambdaScopeCapturedVariables);
-
-      // Just before we leave the procedure body, let's make sure that we check for required returns.
-      if (this.resolvedProcedureType.hasReturnValue()) {
-        if (!scopedHeap.isIdentifierInitialized(hiddenReturnTypeVariableFlagName)) {
-          // The hidden variable marking whether or not this procedure returns along every branch is
-          // uninitialized meaning that there's guaranteed to be a missing return somewhere.
-          throw new ClaroParserException(
-              String.format("Missing return in %s %s.", this.resolvedProcedureType, this.procedureName));
-        }
-        // Just to get the compiler not to yell about our hidden variable being unused, mark it used.
-        scopedHeap.markIdentifierUsed(hiddenReturnTypeVariableFlagName);
-      }
-
-      // Leave the function body.
-      scopedHeap.exitCurrObservedScope(false);
-      // Now that we've left the procedure's scope, let's disallow ReturnStmts again.
-      ReturnStmt.exitProcedureScope();
-
-      // Restore the prior active ProcedureDefStmt.
-      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureDefinitionStmt =
-          priorActiveProcedureDefStmt;
-      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureResolvedType =
-          priorActiveProcedureResolvedType;
-      InternalStaticStateUtil.LambdaExpr_optionalActiveGenericProcedureDefRequiredContractNamesToGenericArgs =
-          priorGenericProcedureDefRequiredContractNamesToGenericArgs;
+      assertExpectedBodyTypes(scopedHeap, /*trackActiveProcedureDefinition=*/true);
     } // End pass through body stmts.
 
     // Now we are recursively walking the graph of transitive procedure dependencies.
@@ -691,6 +574,167 @@ public class ProcedureDefinitionStmt extends Stmt {
     }
   }
 
+  // Validates the procedure body itself. When trackActiveProcedureDefinition is false, the compiler-global state tracking
+  // the active procedure definition is left untouched so that this may run concurrently w/ the validation of other
+  // procedure bodies. That's only valid for bodies that never consult that state (see
+  // ProgramNode::performConcurrentLeafProcedureTypeValidationPhase).
+  private void assertExpectedBodyTypes(ScopedHeap scopedHeap, boolean trackActiveProcedureDefinition)
+      throws ClaroTypeException {
+    // Before I step through the procedure body, I'll need to make sure I set this instance as the
+    // currently active ProcedureDefStmt and then save old one to restore.
+    Optional<Object> priorActiveProcedureDefStmt =
+        InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureDefinitionStmt;
+    Optional<Type> priorActiveProcedureResolvedType =
+        InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureResolvedType;
+    Optional<ArrayListMultimap> priorGenericProcedureDefRequiredContractNamesToGenericArgs =
+        InternalStaticStateUtil.LambdaExpr_optionalActiveGenericProcedureDefRequiredContractNamesToGenericArgs;
+    if (trackActiveProcedureDefinition) {
+      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureDefinitionStmt = Optional.of(this);
+      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureResolvedType =
+          Optional.of(this.resolvedProcedureType);
+    }
+
+    // Before I do any actual validation of this current ProcedureDefinitionStmt, I actually want to
+    // first defer downstream to all directly depended upon (via procedure call) ProcedureDefinitionStmts
+    // so that they can update my
+
+    // this::registerTypeProvider should've already been called during the procedure resolution phase, so we
+    // can now already assume that this type is registered in this scope.
+
+    // Enter the new scope for this procedure.
+    scopedHeap.observeNewScope(
+        false,
+        isLambdaType ? ScopedHeap.Scope.ScopeType.LAMBDA_SCOPE : ScopedHeap.Scope.ScopeType.FUNCTION_SCOPE
+    );
+
+    // Now that we're in the procedure's scope, let's allow ReturnStmts temporarily.
+    ReturnStmt.enterProcedureScope(this.procedureName, this.resolvedProcedureType.hasReturnValue());
+    String hiddenReturnTypeVariableFlagName = getHiddenReturnTypeVariableFlagName();
+    // There's some setup we'll need to do if this procedure expects an output.
+    if (this.resolvedProcedureType.hasReturnValue()) {
+      // We'll abuse the variable usage checking implementation to validate that we've put a ReturnStmt
+      // along every branch of the procedure. So we'll put a hidden variable in the procedure's Scope
+      // and then everywhere where a ReturnStmt is located, we'll mark that variable as "initialized".
+      // By this approach, we simply need to check if that hidden variable "is initialized" on the last
+      // line of the function, and if it's not, then we know there must be a ReturnStmt missing! Damn,
+      // sometimes I even impress myself with my laziness...err creativity....
+      scopedHeap.observeIdentifier(hiddenReturnTypeVariableFlagName, Types.BOOLEAN);
+    }
+
+    // I may need to mark the args as observed identifiers within this new scope.
+    Consumer<ImmutableMap<String, Type>> observeAndInitializeIdentifiers =
+        identifierTypeMap -> identifierTypeMap.forEach(
+            (argName, argType) ->
+            {
+              scopedHeap.observeIdentifierAllowingHiding(argName, argType);
+              scopedHeap.initializeIdentifier(argName);
+            }
+        );
+    if (resolvedProcedureType.hasArgs()) {
+      observeAndInitializeIdentifiers.accept(this.optionalArgTypesByNameMap.get());
+    }
+    // Similarly, in case this procedure has injected dependencies, mark the keys as observed identifiers.
+    // But, first validate that all keys are imported with unique local names (or aliases).
+    if (optionalInjectedKeysToAliasMap.isPresent()) {
+      HashSet<String> uniqueInjectedLocalNames = new HashSet<>(optionalInjectedKeysToAliasMap.get().size());
+      HashSet<String> duplicateInjectedLocalNames = new HashSet<>();
+      for (Map.Entry<Key, Optional<String>> injectedLocalName : optionalInjectedKeysToAliasMap.get().entrySet()) {
+        String localName = injectedLocalName.getValue().orElse(injectedLocalName.getKey().getName());
+        if (!uniqueInjectedLocalNames.add(localName)) {
+          // We ended up finding some conflicting local names.
+          duplicateInjectedLocalNames.add(localName);
+        }
+      }
+      if (!duplicateInjectedLocalNames.isEmpty()) {
+        throw ClaroTypeException.forDuplicateInjectedLocalNames(
+            this.procedureName, this.resolvedProcedureType, duplicateInjectedLocalNames);
+      }
+    }
+    optionalInjectedKeysToAliasMap
+        .map(
+            keysToAliasMap ->
+                keysToAliasMap.entrySet().stream()
+                    .collect(
+                        ImmutableMap.toImmutableMap(
+                            entry -> entry.getValue().orElse(entry.getKey().getName()),
+                            entry -> entry.getKey().getType()
+                        )))
+        .ifPresent(observeAndInitializeIdentifiers);
+
+    // Do setup for any subclasses who need to customize some setup within the function scope for type checking sake.
+    this.subclassSetupFunctionBodyScopeCallback(scopedHeap);
+
+    // Now from here step through the function body. Just assert expected types on the StmtListNode.
+    ((StmtListNode) this.getChildren().get(0)).assertExpectedExprTypes(scopedHeap);
+
+    // Do a one time cleanup of any procedure deps that we don't need filtered because they show up both inside
+    // and outside of using blocks.
+    this.directTopLevelProcedureDepsSet.forEach(
+        this.directTopLevelProcedureDepsToBeFilteredForExplicitUsingBlockKeyBindings::remove);
+
+    // In case this was a lambda expression that made reference to implicitly captured variables
+    // in the outer scope, we need to find and mark them so that we can handle them during interpretation.
+    lambdaScopeCapturedVariables =
+        ImmutableMap.copyOf(scopedHeap.scopeStack.peek().lambdaScopeCapturedVariables);
+
+    // Just before we leave the procedure body, let's make sure that we check for required returns.
+    if (this.resolvedProcedureType.hasReturnValue()) {
+      if (!scopedHeap.isIdentifierInitialized(hiddenReturnTypeVariableFlagName)) {
+        // The hidden variable marking whether or not this procedure returns along every branch is
+        // uninitialized meaning that there's guaranteed to be a missing return somewhere.
+        throw new ClaroParserException(
+            String.format("Missing return in %s %s.", this.resolvedProcedureType, this.procedureName));
+      }
+      // Just to get the compiler not to yell about our hidden variable being unused, mark it used.
+      scopedHeap.markIdentifierUsed(hiddenReturnTypeVariableFlagName);
+    }
+
+    // Leave the function body.
+    scopedHeap.exitCurrObservedScope(false);
+    // Now that we've left the procedure's scope, let's disallow ReturnStmts again.
+    ReturnStmt.exitProcedureScope();
+
+    if (trackActiveProcedureDefinition) {
+      // Restore the prior active ProcedureDefStmt.
+      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureDefinitionStmt =
+          priorActiveProcedureDefStmt;
+      InternalStaticStateUtil.ProcedureDefinitionStmt_optionalActiveProcedureResolvedType =
+          priorActiveProcedureResolvedType;
+      InternalStaticStateUtil.LambdaExpr_optionalActiveGenericProcedureDefRequiredContractNamesToGenericArgs =
+          priorGenericProcedureDefRequiredContractNamesToGenericArgs;
+    }
+  }
+
+  // Whether this procedure's body may still be validated concurrently w/ other procedure bodies.
+  public boolean hasConcurrentlyValidatableSignature() {
+    return !this.alreadyAssertedTypes && hasLeafProcedureSignature();
+  }
+
+  // Whether this procedure's signature allows it to be a "leaf" procedure. This only looks at the signature, ProgramNode
+  // decides whether the body itself is simple enough.
+  public boolean hasLeafProcedureSignature() {
+    return this.resolvedProcedureType != null
+           && !this.isLambdaType
+           && !this.optionalConcreteVariantsForKeywordGenericProcedure.isPresent()
+           && !this.resolvedProcedureType.getGenericProcedureArgNames().isPresent()
+           && !this.optionalInjectedKeysToAliasMap.isPresent()
+           // Validation narrows oneofs by mutating the Type itself, which may be shared w/ other procedures' signatures.
+           && this.optionalArgTypesByNameMap.map(
+                  argTypes -> argTypes.values().stream().noneMatch(t -> t.baseType().equals(BaseType.ONEOF)))
+               .orElse(true);
+  }
+
+  public ImmutableSet<String> getArgNames() {
+    return this.optionalArgTypesByNameMap.map(ImmutableMap::keySet).orElse(ImmutableSet.of());
+  }
+
+  // Only for use by ProgramNode on procedures whose signature and body it's already determined may be validated
+  // concurrently, over a ScopedHeap that's private to the calling thread.
+  public void assertExpectedExprTypesConcurrently(ScopedHeap taskScopedHeap) throws ClaroTypeException {
+    this.alreadyAssertedTypes = true;
+    assertExpectedBodyTypes(taskScopedHeap, /*trackActiveProcedureDefinition=*/false);
+  }
+
   // Do setup for any subclasses who need to customize some setup within the function scope for type checking sake.
   protected void subclassSetupFunctionBodyScopeCallback(ScopedHeap scopedHeap) throws ClaroTypeException {
     // By default this should do nothing.
@@ -714,6 +758,10 @@ public class ProcedureDefinitionStmt extends Stmt {
         isLambdaType ? ScopedHeap.Scope.ScopeType.LAMBDA_SCOPE : ScopedHeap.Scope.ScopeType.FUNCTION_SCOPE
     );
 
+    // Lambdas taking only 1 or 2 args will have their body codegen'd directly into an arity-specialized apply()
+    // overload, in which case args are received as individual params instead of via the `Object... $args` array.
+    int aritySpecializedApplyArgCount = getAritySpecializedApplyArgCount();
+    boolean useAritySpecializedLambdaArgs = this.isLambdaType && aritySpecializedApplyArgCount > 0;
     BiFunction</*isArgsMap*/Boolean, ImmutableMap<String, Type>, StringBuilder> initializeIdentifiers =
         (isArgsMap, identifierTypesByNameMap) -> {
           ImmutableSet<Map.Entry<String, Type>> argTypesByNameEntrySet = identifierTypesByNameMap.entrySet();
@@ -738,12 +786,8 @@ public class ProcedureDefinitionStmt extends Stmt {
                     argName,
                     argJavaSourceType,
                     isArgsMap
-                    ? String.format("$args[%s];\n", i)
-                    : String.format(
-                        "Injector.bindings.get(Key.create(\"%s\", %s));\n",
-                        optionalInjectedKeysToAliasMap.get().keySet().asList().get(i).getName(),
-                        argsEntrySet.get(i).getValue().getJavaSourceClaroType()
-                    )
+                    ? String.format(useAritySpecializedLambdaArgs ? "$arg%s;\n" : "$args[%s];\n", i)
+                    : String.format("Injector.get($injectedKeySlot%s);\n", i)
                 )
             );
           }
@@ -776,13 +820,35 @@ public class ProcedureDefinitionStmt extends Stmt {
         ((StmtListNode) this.getChildren().get(0)).generateJavaSourceOutput(scopedHeap);
     String javaSourceOutput;
     if (isLambdaType) {
-      javaSourceOutput =
-          this.resolvedProcedureType.getJavaNewTypeDefinitionStmtForLambda(
-              this.procedureName,
-              optionalJavaSourceBodyBuilder.orElse(new StringBuilder())
-                  .append(procedureBodyGeneratedJavaSource.javaSourceBody()),
-              this.lambdaScopeCapturedVariables
-          );
+      StringBuilder lambdaBody =
+          optionalJavaSourceBodyBuilder.orElse(new StringBuilder())
+              .append(procedureBodyGeneratedJavaSource.javaSourceBody());
+      if (useAritySpecializedLambdaArgs) {
+        // The generic entry point simply unpacks the args array and defers to the arity-specialized overload.
+        javaSourceOutput =
+            this.resolvedProcedureType.getJavaNewTypeDefinitionStmtForLambda(
+                this.procedureName,
+                new StringBuilder(this.resolvedProcedureType.hasReturnValue() ? "return " : "")
+                    .append("apply(")
+                    .append(IntStream.range(0, aritySpecializedApplyArgCount)
+                                .mapToObj(i -> String.format("$args[%s]", i))
+                                .collect(Collectors.joining(", ")))
+                    .append(");\n"),
+                Optional.of(
+                    genAritySpecializedApplySignature(aritySpecializedApplyArgCount)
+                        .append(lambdaBody)
+                        .append("\n  }\n")),
+                this.lambdaScopeCapturedVariables
+            );
+      } else {
+        javaSourceOutput =
+            this.resolvedProcedureType.getJavaNewTypeDefinitionStmtForLambda(
+                this.procedureName,
+                lambdaBody,
+                Optional.empty(),
+                this.lambdaScopeCapturedVariables
+            );
+      }
     } else {
       // It's possible that we need to generate helper methods for the class we're generating.
       Optional<GeneratedJavaSource> optionalHelperGeneratedJavaSource = getHelperMethodsJavaSource(scopedHeap);
@@ -832,7 +898,9 @@ public class ProcedureDefinitionStmt extends Stmt {
                       .append("\n}\n")
                       .append(optionalHelperGeneratedJavaSource.map(GeneratedJavaSource::javaSourceBody)
                                   .map(StringBuilder::toString)
-                                  .orElse("")))
+                                  .orElse(""))
+                      .append(genAritySpecializedApplyForStaticProcedure(aritySpecializedApplyArgCount))
+                      .append(genInjectedKeySlotDefinitions(optionalInjectedKeysToAliasMap)))
           );
     }
 
@@ -858,6 +926,61 @@ public class ProcedureDefinitionStmt extends Stmt {
 
   }
 
+  // Each injected key is resolved to its Injector slot once at class init, so that injection itself is just an array
+  // read rather than a hash lookup that'd need to allocate a Key and hash its entire Type on every call.
+  private static String genInjectedKeySlotDefinitions(
+      Optional<ImmutableMap<Key, Optional<String>>> optionalInjectedKeysToAliasMap) {
+    if (!optionalInjectedKeysToAliasMap.isPresent()) {
+      return "";
+    }
+    ImmutableList<Key> injectedKeys = optionalInjectedKeysToAliasMap.get().keySet().asList();
+    return IntStream.range(0, injectedKeys.size())
+        .mapToObj(
+            i -> String.format(
+                "private static final int $injectedKeySlot%s = Injector.slotFor(Key.create(\"%s\", %s));\n",
+                i,
+                injectedKeys.get(i).getName(),
+                injectedKeys.get(i).getType().getJavaSourceClaroType()
+            ))
+        .collect(Collectors.joining());
+  }
+
+  // Calls through first-class procedure references are by far most commonly to procedures taking only 1 or 2 args
+  // (e.g. callbacks passed to stdlib procedures), so these get apply() overloads that avoid allocating a varargs array.
+  private int getAritySpecializedApplyArgCount() {
+    int argCount = this.optionalArgTypesByNameMap.map(Map::size).orElse(0);
+    return (argCount == 1 || argCount == 2) ? argCount : 0;
+  }
+
+  private StringBuilder genAritySpecializedApplySignature(int argCount) {
+    return new StringBuilder("  public ")
+        .append(this.resolvedProcedureType.hasReturnValue()
+                ? this.resolvedProcedureType.getReturnType().getJavaSourceType()
+                : "void")
+        .append(" apply(")
+        .append(IntStream.range(0, argCount)
+                    .mapToObj(i -> String.format("Object $arg%s", i))
+                    .collect(Collectors.joining(", ")))
+        .append(") {\n");
+  }
+
+  private String genAritySpecializedApplyForStaticProcedure(int argCount) {
+    if (argCount == 0) {
+      return "";
+    }
+    ImmutableList<Type> argTypes = this.optionalArgTypesByNameMap.get().values().asList();
+    return genAritySpecializedApplySignature(argCount)
+        .append("    ")
+        .append(this.resolvedProcedureType.hasReturnValue() ? "return " : "")
+        .append(this.procedureName)
+        .append("(")
+        .append(IntStream.range(0, argCount)
+                    .mapToObj(i -> String.format("(%s) $arg%s", argTypes.get(i).getJavaSourceType(), i))
+                    .collect(Collectors.joining(", ")))
+        .append(");\n  }\n")
+        .toString();
+  }
+
   @Override
   public Object generateInterpretedOutput(ScopedHeap definitionTimeScopedHeap) {
     // Within this function's new scope we'll need to add nodes to declare+init the arg vars within this scope. Do this
@@ -8,13 +8,24 @@ import com.claro.internal_static_state.InternalStaticStateUtil;
 import com.google.common.collect.ImmutableList;
 
 public class RepeatStmt extends Stmt {
+  private static long globalRepeatLoopCount = 0;
   private final Expr expr;
   private final StmtListNode stmtListNode;
+  private final String loopLabel;
 
   public RepeatStmt(Expr expr, StmtListNode stmtListNode) {
     super(ImmutableList.of());
     this.expr = expr;
     this.stmtListNode = stmtListNode;
+    this.loopLabel = "$RepeatLoop" + RepeatStmt.globalRepeatLoopCount++;
+  }
+
+  public Expr getRepeatedCountExpr() {
+    return this.expr;
+  }
+
+  public StmtListNode getBody() {
+    return this.stmtListNode;
   }
 
   @Override
@@ -26,11 +37,14 @@ public class RepeatStmt extends Stmt {
     scopedHeap.observeNewScope(false);
 
     boolean original_withinLoopingConstructBody = InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody;
+    String original_innermostLoopLabel = InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel;
     InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody = true;
+    InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel = this.loopLabel;
 
     this.stmtListNode.assertExpectedExprTypes(scopedHeap);
 
     InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody = original_withinLoopingConstructBody;
+    InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel = original_innermostLoopLabel;
 
     scopedHeap.exitCurrObservedScope(false);
   }
@@ -38,7 +52,8 @@ public class RepeatStmt extends Stmt {
   @Override
   public GeneratedJavaSource generateJavaSourceOutput(ScopedHeap scopedHeap) {
     GeneratedJavaSource res =
-        GeneratedJavaSource.forJavaSourceBody(new StringBuilder("for (int $repeatCounter = 0; $repeatCounter < "));
+        GeneratedJavaSource.forJavaSourceBody(
+            new StringBuilder(this.loopLabel).append(": for (int $repeatCounter = 0; $repeatCounter < "));
     res = res.createMerged(this.expr.generateJavaSourceOutput(scopedHeap));
     res.javaSourceBody().append("; ++$repeatCounter) {\n");
 
@@ -19,9 +19,10 @@ public class ReturnStmt extends Stmt {
   // a definition scope of a (non-Consumer) Procedure, this should be set to true in order to allow the
   // ReturnStmt, and will reset it to false upon leaving the Procedure definition scope. If a ReturnStmt
   // is reached during the type validation phase while this boolean is false, then that will let us know that
-  // we are outside of a Procedure scope and this is an invalid ReturnStmt.
-  public static Optional<String> withinProcedureScope = Optional.empty();
-  public static boolean supportReturnStmt = false;
+  // we are outside of a Procedure scope and this is an invalid ReturnStmt. These are thread-confined as procedure bodies
+  // may be validated concurrently (see ProgramNode::performConcurrentLeafProcedureTypeValidationPhase).
+  public static final ThreadLocal<Optional<String>> withinProcedureScope = ThreadLocal.withInitial(Optional::empty);
+  public static final ThreadLocal<Boolean> supportReturnStmt = ThreadLocal.withInitial(() -> false);
 
   public ReturnStmt(Expr returnExpr, AtomicReference<TypeProvider> expectedTypeProvider) {
     super(ImmutableList.of(returnExpr));
@@ -29,23 +30,24 @@ public class ReturnStmt extends Stmt {
   }
 
   public static void enterProcedureScope(String procedureName, boolean allowReturnStmts) {
-    ReturnStmt.withinProcedureScope = Optional.of(procedureName);
-    ReturnStmt.supportReturnStmt = allowReturnStmts;
+    ReturnStmt.withinProcedureScope.set(Optional.of(procedureName));
+    ReturnStmt.supportReturnStmt.set(allowReturnStmts);
   }
 
   public static void exitProcedureScope() {
-    ReturnStmt.withinProcedureScope = Optional.empty();
-    ReturnStmt.supportReturnStmt = false;
+    ReturnStmt.withinProcedureScope.set(Optional.empty());
+    ReturnStmt.supportReturnStmt.set(false);
   }
 
   @Override
   public void assertExpectedExprTypes(ScopedHeap scopedHeap) throws ClaroTypeException {
-    if (!(withinProcedureScope.isPresent() && supportReturnStmt)) {
+    Optional<String> optionalProcedureName = ReturnStmt.withinProcedureScope.get();
+    if (!(optionalProcedureName.isPresent() && ReturnStmt.supportReturnStmt.get())) {
       String invalidReturnReason;
-      if (withinProcedureScope.isPresent()) {
+      if (optionalProcedureName.isPresent()) {
         invalidReturnReason = String.format(
             "Invalid usage of `return` in a body of procedure <%s> that does not provide output.",
-            withinProcedureScope.get()
+            optionalProcedureName.get()
         );
       } else {
         invalidReturnReason = "Invalid usage of `return` outside of a procedure body.";
@@ -75,29 +75,29 @@ public class StaticValueDefStmt extends Stmt {
         .append(".apply();\n");
 
     if (this.isLazy) {
-      // If the static value is declared lazy, then instead of eagerly initializing its value on startup, declare an
-      // additional boolean to track whether the value has been initialized, and a static init procedure that'll do the
-      // init, IFF it hasn't been done yet.
-      String stateVar = this.identifier.identifier + "$isInitialized";
-      res.append("private static boolean ")
-          .append(stateVar)
-          .append(" = false;\n")
-          .append("public static synchronized ")
+      // If the static value is declared lazy, then instead of eagerly initializing its value on startup, defer init to
+      // a nested holder class. The JVM guarantees the holder's static init runs exactly once, on first access, so
+      // reads after init are just a plain (JIT-foldable) static final field read w/o taking any lock.
+      String holderClass = "$LazyStaticHolder$" + this.identifier.identifier;
+      res.append("private static final class ")
+          .append(holderClass)
+          .append(" {\n")
+          .append("  static {\n\t")
+          .append(staticInit)
+          .append("  }\n")
+          .append("  private static final ")
+          .append(this.resolvedType.get().getJavaSourceType())
+          .append(" VALUE = ")
+          .append(this.identifier.identifier)
+          .append(";\n}\n")
+          .append("public static ")
           .append(this.resolvedType.get().getJavaSourceType())
           .append(" lazyStaticInitializer$")
           .append(this.identifier.identifier)
           .append("() {\n" +
-                  "  if (!")
-          .append(stateVar)
-          .append(") {\n")
-          .append(staticInit)
-          .append("\n  ")
-          .append(stateVar)
-          .append(" = true;\n")
-          .append("  }\n" +
                   "  return ")
-          .append(this.identifier.identifier)
-          .append(";\n}\n");
+          .append(holderClass)
+          .append(".VALUE;\n}\n");
     } else {
       // If the static value isn't declared lazy, then it should be eagerly initialized on program startup.
       res.append("static {\n\t").append(staticInit).append("}\n");
@@ -8,9 +8,12 @@ import com.claro.internal_static_state.InternalStaticStateUtil;
 import com.google.common.collect.ImmutableList;
 
 public class WhileStmt extends Stmt {
+  private static long globalWhileLoopCount = 0;
+  private final String loopLabel;
 
   public WhileStmt(Expr expr, StmtListNode stmtListNode) {
     super(ImmutableList.of(expr, stmtListNode));
+    this.loopLabel = "$WhileLoop" + WhileStmt.globalWhileLoopCount++;
   }
 
   @Override
@@ -26,11 +29,14 @@ public class WhileStmt extends Stmt {
     scopedHeap.observeNewScope(false);
 
     boolean original_withinLoopingConstructBody = InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody;
+    String original_innermostLoopLabel = InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel;
     InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody = true;
+    InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel = this.loopLabel;
 
     ((StmtListNode) this.getChildren().get(1)).assertExpectedExprTypes(scopedHeap);
 
     InternalStaticStateUtil.LoopingConstructs_withinLoopingConstructBody = original_withinLoopingConstructBody;
+    InternalStaticStateUtil.LoopingConstructs_innermostLoopLabel = original_innermostLoopLabel;
 
     scopedHeap.exitCurrObservedScope(false);
   }
@@ -48,7 +54,8 @@ public class WhileStmt extends Stmt {
         bodyStmtListJavaSource.withNewJavaSourceBody(
             new StringBuilder(
                 String.format(
-                    "while ( %s ) {\n%s\n}\n",
+                    "%s: while ( %s ) {\n%s\n}\n",
+                    this.loopLabel,
                     conditionJavaSource.javaSourceBody().toString(),
                     bodyStmtListJavaSource.javaSourceBody().toString()
                 ))
@@ -450,7 +450,9 @@ public class ContractDefinitionStmt extends Stmt {
     ////////////////////////////////////////////////////////////////////////////////
     // Codegen Static Initialization of "vtable".
     ////////////////////////////////////////////////////////////////////////////////
-    res.append("private static final ImmutableMap<ImmutableList<Object>, Integer> ")
+    // The vtable itself is wrapped in a small inline cache so that repeated dispatch over the same concrete types (by
+    // far the common case) can skip allocating and hashing a vtable key on every call.
+    res.append("private static final com.claro.runtime_utilities.DynamicDispatchInlineCache ")
         .append("$")
         .append(procedureName)
         .append("_vtable;\n")
@@ -513,9 +515,9 @@ public class ContractDefinitionStmt extends Stmt {
     res.append(";\n\t")
         .append("$")
         .append(procedureName)
-        .append("_vtable = $")
+        .append("_vtable = new com.claro.runtime_utilities.DynamicDispatchInlineCache($")
         .append(procedureName)
-        .append("_vtableBuilder.build();\n");
+        .append("_vtableBuilder.build());\n");
     ////////////////////////////////////////////////////////////////////////////////
     // Finish Static Initialization of "vtable".
     ////////////////////////////////////////////////////////////////////////////////
@@ -671,7 +673,7 @@ public class ContractDefinitionStmt extends Stmt {
     // Codegen switch over dynamically resolved contract impl type param types.
     ////////////////////////////////////////////////////////////////////////////////
 
-    res.append("\tswitch($").append(procedureName).append("_vtable.get(ImmutableList.of(");
+    res.append("\tswitch($").append(procedureName).append("_vtable.get(");
     String contractTypeParamKeysCodegen =
         IntStream.range(0, this.typeParamNames.size())
             .mapToObj(n -> {
@@ -704,7 +706,7 @@ public class ContractDefinitionStmt extends Stmt {
             n -> res.append(String.format(", $%s_monomorphizations_vtableKey", n))
         )
     );
-    res.append("))) {\n");
+    res.append(")) {\n");
     final AtomicInteger monomorphizationNumber = new AtomicInteger();
     for (int i = 0;
          i < ContractDefinitionStmt.contractImplementationsByContractName.get(this.contractName).size();
@@ -45,12 +45,18 @@ public enum BaseType {
   // any manner of instance values.
 
   // A `function` w/o any other modifier (e.g. consumer/provider) is one that takes args
-  // and returns some value.
+  // and returns some value. Note that all procedure templates defer constructing their runtime type descriptor until
+  // it's actually requested, since the vast majority of procedures never have their type inspected at runtime. The
+  // field is volatile so that the (mutable) ProcedureType is only ever published fully constructed, and at worst it
+  // gets computed redundantly on first use.
   FUNCTION(
       "function<%s -> %s>%s",
       "ClaroFunction<%s>",
       "public static final class $%s extends ClaroFunction<%s> {\n" +
-      "  private final Types.ProcedureType.FunctionType claroType = %s;\n" +
+      "  private volatile Types.ProcedureType.FunctionType claroType;\n" +
+      "  private Types.ProcedureType.FunctionType $computeClaroType() {\n" +
+      "    return %s;\n" +
+      "  }\n" +
       "  private final $%s %s = this;\n" +
       "  public %s apply(Object... $args) {\n" +
       "%s\n" +
@@ -58,7 +64,11 @@ public enum BaseType {
       "\n%s\n" +
       "  @Override\n" +
       "  public Type getClaroType() {\n" +
-      "    return claroType;\n" +
+      "    Types.ProcedureType.FunctionType res = claroType;\n" +
+      "    if (res == null) {\n" +
+      "      res = claroType = $computeClaroType();\n" +
+      "    }\n" +
+      "    return res;\n" +
       "  }\n" +
       "  @Override\n" +
       "  public String toString() {\n" +
@@ -75,7 +85,10 @@ public enum BaseType {
       "function<%s -> %s>",
       "ClaroFunction<%s>",
       "final class $%s extends ClaroFunction<%s> {\n" +
-      "  private final Types.ProcedureType.FunctionType claroType = %s;\n" +
+      "  private volatile Types.ProcedureType.FunctionType claroType;\n" +
+      "  private Types.ProcedureType.FunctionType $computeClaroType() {\n" +
+      "    return %s;\n" +
+      "  }\n" +
       "  private final $%s %s = this;\n" +
       "%s\n" + // Add final instance variables for any/all captured variables.
       "  $%s(%s) { \n" +
@@ -84,9 +97,14 @@ public enum BaseType {
       "  public %s apply(Object... $args) {\n" +
       "%s\n" +
       "  }\n" +
+      "%s" + // Add arity-specialized apply() overloads if applicable.
       "  @Override\n" +
       "  public Type getClaroType() {\n" +
-      "    return claroType;\n" +
+      "    Types.ProcedureType.FunctionType res = claroType;\n" +
+      "    if (res == null) {\n" +
+      "      res = claroType = $computeClaroType();\n" +
+      "    }\n" +
+      "    return res;\n" +
       "  }\n" +
       "  @Override\n" +
       "  public String toString() {\n" +
@@ -103,7 +121,10 @@ public enum BaseType {
       "consumer<%s>",
       "ClaroConsumerFunction",
       "public static final class $%s extends ClaroConsumerFunction {\n" +
-      "  private final Types.ProcedureType.ConsumerType claroType = %s;\n" +
+      "  private volatile Types.ProcedureType.ConsumerType claroType;\n" +
+      "  private Types.ProcedureType.ConsumerType $computeClaroType() {\n" +
+      "    return %s;\n" +
+      "  }\n" +
       "  final $%s %s = this;\n" +
       "  public void apply(Object... $args) {\n" +
       "%s\n" +
@@ -111,7 +132,11 @@ public enum BaseType {
       "\n%s\n" +
       "  @Override\n" +
       "  public Type getClaroType() {\n" +
-      "    return claroType;\n" +
+      "    Types.ProcedureType.ConsumerType res = claroType;\n" +
+      "    if (res == null) {\n" +
+      "      res = claroType = $computeClaroType();\n" +
+      "    }\n" +
+      "    return res;\n" +
       "  }\n" +
       "  @Override\n" +
       "  public String toString() {\n" +
@@ -128,7 +153,10 @@ public enum BaseType {
       "consumer<%s>",
       "ClaroConsumerFunction",
       "final class $%s extends ClaroConsumerFunction {\n" +
-      "  private final Types.ProcedureType.ConsumerType claroType = %s;\n" +
+      "  private volatile Types.ProcedureType.ConsumerType claroType;\n" +
+      "  private Types.ProcedureType.ConsumerType $computeClaroType() {\n" +
+      "    return %s;\n" +
+      "  }\n" +
       "  final $%s %s = this;\n" +
       "%s\n" + // Add final instance variables for any/all captured variables.
       "  $%s(%s) { \n" +
@@ -137,9 +165,14 @@ public enum BaseType {
       "  public void apply(Object... $args) {\n" +
       "%s\n" +
       "  }\n" +
+      "%s" + // Add arity-specialized apply() overloads if applicable.
       "  @Override\n" +
       "  public Type getClaroType() {\n" +
-      "    return claroType;\n" +
+      "    Types.ProcedureType.ConsumerType res = claroType;\n" +
+      "    if (res == null) {\n" +
+      "      res = claroType = $computeClaroType();\n" +
+      "    }\n" +
+      "    return res;\n" +
       "  }\n" +
       "  @Override\n" +
       "  public String toString() {\n" +
@@ -157,7 +190,10 @@ public enum BaseType {
       "provider<%s>",
       "ClaroProviderFunction<%s>",
       "public static final class $%s extends ClaroProviderFunction<%s> {\n" +
-      "  private final Types.ProcedureType.ProviderType claroType = %s;\n" +
+      "  private volatile Types.ProcedureType.ProviderType claroType;\n" +
+      "  private Types.ProcedureType.ProviderType $computeClaroType() {\n" +
+      "    return %s;\n" +
+      "  }\n" +
       "  final $%s %s = this;\n" +
       "  public %s apply() {\n" +
       "%s\n" +
@@ -165,7 +201,11 @@ public enum BaseType {
       "\n%s\n" +
       "  @Override\n" +
       "  public Type getClaroType() {\n" +
-      "    return claroType;\n" +
+      "    Types.ProcedureType.ProviderType res = claroType;\n" +
+      "    if (res == null) {\n" +
+      "      res = claroType = $computeClaroType();\n" +
+      "    }\n" +
+      "    return res;\n" +
       "  }\n" +
       "  @Override\n" +
       "  public String toString() {\n" +
@@ -182,7 +222,10 @@ public enum BaseType {
       "provider<%s>",
       "ClaroProviderFunction<%s>",
       "final class $%s extends ClaroProviderFunction<%s> {\n" +
-      "  private final Types.ProcedureType.ProviderType claroType = %s;\n" +
+      "  private volatile Types.ProcedureType.ProviderType claroType;\n" +
+      "  private Types.ProcedureType.ProviderType $computeClaroType() {\n" +
+      "    return %s;\n" +
+      "  }\n" +
       "  final $%s %s = this;\n" +
       "%s\n" + // Add final instance variables for any/all captured variables.
       "  $%s(%s) { \n" +
@@ -193,7 +236,11 @@ public enum BaseType {
       "  }\n" +
       "  @Override\n" +
       "  public Type getClaroType() {\n" +
-      "    return claroType;\n" +
+      "    Types.ProcedureType.ProviderType res = claroType;\n" +
+      "    if (res == null) {\n" +
+      "      res = claroType = $computeClaroType();\n" +
+      "    }\n" +
+      "    return res;\n" +
       "  }\n" +
       "  @Override\n" +
       "  public String toString() {\n" +
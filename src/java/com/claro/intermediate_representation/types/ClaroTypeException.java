@@ -107,6 +107,14 @@ public class ClaroTypeException extends Exception {
       "Illegal node reference cycle detected within Graph procedure <%s>. Through transitive node references, node <%s> depends cyclically on itself. Graph nodes must represent a DAG.";
   private static final String GRAPH_CONSUMER_ROOT_NODE_IS_NOT_CONSUMER_FN =
       "Root node <%s> of Graph Consumer <%s> must defer to a consumer<...> as this Graph should not return a value. If you would like to return a value, change the signature to `graph function`.";
+  private static final String MEMOIZED_GRAPH_NODE_DEPENDS_ON_OTHER_NODES =
+      "Memoized node <%s> of Graph procedure <%s> may not reference other nodes. Memoized nodes are shared across graph invocations and so may only depend on the graph's args and injected values.";
+  private static final String BLOCKING_CALL_WITHIN_PARALLEL_COMPREHENSION =
+      "Illegal calls to the following blocking procedures within `parallel` comprehension %s. Blocking is forbidden within a `parallel` comprehension as it would stall the shared thread pool that it's evaluated on.";
+  private static final String UNPROVABLY_SIDE_EFFECT_FREE_CALL_WITHIN_PARALLEL_COMPREHENSION =
+      "Illegal calls to the following procedures within `parallel` comprehension %s. A `parallel` comprehension is evaluated concurrently and out of order, so it may only call procedures that the compiler can prove are side-effect free. Currently, only procedures defined in this compilation unit that make no procedure calls of their own, and that only reference their own args and locals, are provably side-effect free.";
+  private static final String MUTABLE_IDENTIFIER_REFERENCE_WITHIN_PARALLEL_COMPREHENSION =
+      "Illegal references to the following variables of mutable types within `parallel` comprehension %s. A `parallel` comprehension is evaluated concurrently, so it may only reference variables declared outside of it if their types are deeply-immutable.";
   private static final String BACKREFERENCE_OUTSIDE_OF_VALID_PIPE_CHAIN_CONTEXT =
       "Illegal use of backreference (`^`) outside of valid pipe chain context. Backreferences may only be used in a non-source pipe chain stage.";
   private static final String CONTRACT_IMPLEMENTATION_FOR_UNDEFINED_CONTRACT =
@@ -911,6 +919,51 @@ public class ClaroTypeException extends Exception {
     );
   }
 
+  public static ClaroTypeException forMemoizedGraphNodeDependsOnOtherNodes(String procedureName, String nodeName) {
+    return new ClaroTypeException(
+        String.format(
+            MEMOIZED_GRAPH_NODE_DEPENDS_ON_OTHER_NODES,
+            nodeName,
+            procedureName
+        )
+    );
+  }
+
+  public static ClaroTypeException forBlockingCallWithinParallelComprehension(Map<String, Type> blockingCalls) {
+    return new ClaroTypeException(
+        String.format(
+            BLOCKING_CALL_WITHIN_PARALLEL_COMPREHENSION,
+            blockingCalls.entrySet().stream()
+                .map(entry -> String.format("%s %s", entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(", ", "[", "]"))
+        )
+    );
+  }
+
+  public static ClaroTypeException forUnprovablySideEffectFreeCallWithinParallelComprehension(
+      Map<String, Type> unprovablySideEffectFreeCalls) {
+    return new ClaroTypeException(
+        String.format(
+            UNPROVABLY_SIDE_EFFECT_FREE_CALL_WITHIN_PARALLEL_COMPREHENSION,
+            unprovablySideEffectFreeCalls.entrySet().stream()
+                .map(entry -> String.format("%s %s", entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(", ", "[", "]"))
+        )
+    );
+  }
+
+  public static ClaroTypeException forMutableIdentifierReferenceWithinParallelComprehension(
+      Map<String, Type> mutableIdentifierReferences) {
+    return new ClaroTypeException(
+        String.format(
+            MUTABLE_IDENTIFIER_REFERENCE_WITHIN_PARALLEL_COMPREHENSION,
+            mutableIdentifierReferences.entrySet().stream()
+                .map(entry -> String.format("%s: %s", entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(", ", "[", "]"))
+        )
+    );
+  }
+
   public static ClaroTypeException forBackreferenceOutsideOfValidPipeChainContext() {
     return new ClaroTypeException(
         BACKREFERENCE_OUTSIDE_OF_VALID_PIPE_CHAIN_CONTEXT
@@ -682,7 +682,10 @@ public final class Types {
         String procedureName, StringBuilder body, Optional<StringBuilder> optionalHelperMethods);
 
     public abstract String getJavaNewTypeDefinitionStmtForLambda(
-        String procedureName, StringBuilder body, ImmutableMap<String, Type> capturedVariables);
+        String procedureName,
+        StringBuilder body,
+        Optional<StringBuilder> optionalAritySpecializedApplyMethods,
+        ImmutableMap<String, Type> capturedVariables);
 
     public String getStaticFunctionReferenceDefinitionStmt(String procedureName) {
       return String.format(
@@ -842,7 +845,11 @@ public final class Types {
       }
 
       @Override
-      public String getJavaNewTypeDefinitionStmtForLambda(String functionName, StringBuilder body, ImmutableMap<String, Type> capturedVariables) {
+      public String getJavaNewTypeDefinitionStmtForLambda(
+          String functionName,
+          StringBuilder body,
+          Optional<StringBuilder> optionalAritySpecializedApplyMethods,
+          ImmutableMap<String, Type> capturedVariables) {
         return String.format(
             this.autoValueIgnoredOptionalOverrideBaseType.get()
                 .orElse(this.baseType())
@@ -863,6 +870,7 @@ public final class Types {
                 .map(s -> String.format("    this.%s = %s;\n", s, s)).collect(Collectors.joining()),
             getReturnType().getJavaSourceType(),
             body,
+            optionalAritySpecializedApplyMethods.orElse(new StringBuilder()),
             this,
             functionName,
             functionName,
@@ -1073,7 +1081,10 @@ public final class Types {
 
       @Override
       public String getJavaNewTypeDefinitionStmtForLambda(
-          String providerName, StringBuilder body, ImmutableMap<String, Type> capturedVariables) {
+          String providerName,
+          StringBuilder body,
+          Optional<StringBuilder> unusedOptionalAritySpecializedApplyMethods,
+          ImmutableMap<String, Type> capturedVariables) {
         String returnTypeJavaSource = getReturnType().getJavaSourceType();
         return String.format(
             this.autoValueIgnoredOptionalOverrideBaseType.get()
@@ -1336,7 +1347,10 @@ public final class Types {
 
       @Override
       public String getJavaNewTypeDefinitionStmtForLambda(
-          String consumerName, StringBuilder body, ImmutableMap<String, Type> capturedVariables) {
+          String consumerName,
+          StringBuilder body,
+          Optional<StringBuilder> optionalAritySpecializedApplyMethods,
+          ImmutableMap<String, Type> capturedVariables) {
         return String.format(
             this.autoValueIgnoredOptionalOverrideBaseType.get().get().getJavaNewTypeDefinitionStmtFmtStr(),
             consumerName,
@@ -1353,6 +1367,7 @@ public final class Types {
             capturedVariables.keySet().stream()
                 .map(s -> String.format("    this.%s = %s;\n", s, s)).collect(Collectors.joining()),
             body,
+            optionalAritySpecializedApplyMethods.orElse(new StringBuilder()),
             this.toString(),
             consumerName,
             consumerName,
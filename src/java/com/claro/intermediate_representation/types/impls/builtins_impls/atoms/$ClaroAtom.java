@@ -7,11 +7,27 @@ import com.google.auto.value.AutoValue;
 
 @AutoValue
 public abstract class $ClaroAtom extends ClaroUserDefinedTypeImplementation {
+  // Every atom is a singleton within its defining module's ATOM_CACHE, so its index there identifies it just as well as
+  // its type does. This allows matching over atoms to switch directly on the index rather than comparing types. These
+  // aren't AutoValue properties as they're entirely determined by the atom's type anyways.
+  private $LazyAtomCache atomCache;
+  private int atomCacheIndex;
+
   // An atom value is just its type.
   public abstract Type getClaroType();
 
-  public static $ClaroAtom forTypeNameAndDisambiguator(String name, String definingModuleDisambiguator) {
-    return new AutoValue_$ClaroAtom(Types.AtomType.forNameAndDisambiguator(name, definingModuleDisambiguator));
+  static $ClaroAtom forAtomCacheIndex(
+      $LazyAtomCache atomCache, int atomCacheIndex, String name, String definingModuleDisambiguator) {
+    $ClaroAtom res =
+        new AutoValue_$ClaroAtom(Types.AtomType.forNameAndDisambiguator(name, definingModuleDisambiguator));
+    res.atomCache = atomCache;
+    res.atomCacheIndex = atomCacheIndex;
+    return res;
+  }
+
+  // Returns -1 if this atom isn't defined by the module owning the given ATOM_CACHE.
+  public int getAtomCacheIndexWithin($LazyAtomCache atomCache) {
+    return this.atomCache == atomCache ? this.atomCacheIndex : -1;
   }
 
   @Override
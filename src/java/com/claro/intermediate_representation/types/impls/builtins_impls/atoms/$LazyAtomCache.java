@@ -0,0 +1,29 @@
+package com.claro.intermediate_representation.types.impls.builtins_impls.atoms;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Every module's generated code references its atoms by index into its ATOM_CACHE. Rather than constructing every atom
+// (and its runtime type) during class init, each atom is only constructed the first time that it's actually referenced
+// so that startup cost scales w/ the atoms a given run actually uses.
+public final class $LazyAtomCache {
+  private final String definingModuleDisambiguator;
+  private final String[] atomNames;
+  private final AtomicReferenceArray<$ClaroAtom> atoms;
+
+  public $LazyAtomCache(String definingModuleDisambiguator, String[] atomNames) {
+    this.definingModuleDisambiguator = definingModuleDisambiguator;
+    this.atomNames = atomNames;
+    this.atoms = new AtomicReferenceArray<>(atomNames.length);
+  }
+
+  public $ClaroAtom get(int i) {
+    $ClaroAtom res = this.atoms.get(i);
+    if (res == null) {
+      // Concurrent first references may each construct an atom, but the CAS ensures that every caller gets the same one.
+      this.atoms.compareAndSet(
+          i, null, $ClaroAtom.forAtomCacheIndex(this, i, this.atomNames[i], this.definingModuleDisambiguator));
+      res = this.atoms.get(i);
+    }
+    return res;
+  }
+}
@@ -7,6 +7,17 @@ public abstract class ClaroConsumerFunction<T> implements ClaroBuiltinTypeImplem
 
   public abstract void apply(Object... args);
 
+  // Arity-specialized entry points. Generated procedures override these so that calls through first-class procedure
+  // references with only 1 or 2 args (by far the most common case, e.g. callbacks passed to stdlib procedures) can
+  // skip allocating a varargs array. By default, just fall back to the generic entry point.
+  public void apply(Object arg0) {
+    apply(new Object[]{arg0});
+  }
+
+  public void apply(Object arg0, Object arg1) {
+    apply(new Object[]{arg0, arg1});
+  }
+
   @Override
   public abstract Type getClaroType();
 }
@@ -10,6 +10,13 @@ import java.util.stream.IntStream;
 
 public class ClaroStruct implements ClaroBuiltinTypeImplementation {
 
+  // Generated code hoists each distinct StructType into a constant, so all instances created by the same compilation
+  // unit share a single instance of their type rather than each retaining its own copy of the entire type tree. This
+  // also makes the type comparison in equals() an identity check in practice.
+  // TODO(steving) Ideally codegen would simply generate a dedicated Java class per distinct StructType with a field
+  //   for each struct field (primitive where possible). But first, all of the various places that reach directly into
+  //   the `values` array (CopyExpr, FromJsonExpr, MatchStmt, StructFieldAccessExpr, ...) need to be migrated to some
+  //   accessor API that such generated classes could implement.
   private final Types.StructType structType;
   public final Object[] values;
 
@@ -43,7 +50,7 @@ public class ClaroStruct implements ClaroBuiltinTypeImplementation {
       return false;
     }
     ClaroStruct otherStruct = (ClaroStruct) obj;
-    if (!this.structType.equals(otherStruct.structType)) {
+    if (this.structType != otherStruct.structType && !this.structType.equals(otherStruct.structType)) {
       return false;
     }
     for (int i = 0; i < this.values.length; ++i) {
@@ -4,32 +4,38 @@ import com.claro.intermediate_representation.types.Type;
 import com.claro.intermediate_representation.types.Types;
 import com.google.common.collect.ImmutableList;
 
+import java.util.Objects;
+
 public class $UserDefinedType<T> extends ClaroUserDefinedTypeImplementation {
 
-  private final String name;
-  private final String definingModuleDisambiguator;
-  private final ImmutableList<Type> parameterizedTypes;
-  private final Type wrappedType;
+  // All of the type metadata is identical for every value of a given (concrete) user-defined type, so rather than each
+  // value carrying its own references to all of it, codegen hoists a single Metadata constant per concrete type that
+  // all of its values share. This keeps every value down to just the metadata ref and the wrapped value itself, which
+  // matters a lot for programs that wrap nearly all of their primitive data in newtypes.
+  // TODO(steving) Going further to generate a dedicated class per user-defined type (or to erase non-opaque newtypes
+  //   over primitives entirely) will require dynamic dispatch and runtime type checks to stop relying on getClaroType()
+  //   returning a Types.UserDefinedType for every newtype value.
+  private final Metadata metadata;
   public final T wrappedValue;
 
+  public $UserDefinedType(Metadata metadata, T wrappedValue) {
+    this.metadata = metadata;
+    this.wrappedValue = wrappedValue;
+  }
 
+  // Only for use by handwritten runtime code that has no codegen'd Metadata constant to hand.
   public $UserDefinedType(String name, String definingModuleDisambiguator, ImmutableList<Type> parameterizedTypes, Type wrappedType, T wrappedValue) {
-    this.name = name;
-    this.definingModuleDisambiguator = definingModuleDisambiguator;
-    this.parameterizedTypes = parameterizedTypes;
-    this.wrappedType = wrappedType;
-    this.wrappedValue = wrappedValue;
+    this(new Metadata(name, definingModuleDisambiguator, parameterizedTypes, wrappedType), wrappedValue);
   }
 
   @Override
   public Type getClaroType() {
-    return Types.UserDefinedType.forTypeNameAndParameterizedTypes(
-        this.name, this.definingModuleDisambiguator, this.parameterizedTypes);
+    return this.metadata.claroType;
   }
 
   @Override
   public String toString() {
-    return String.format("%s(%s)", this.name, this.wrappedValue.toString());
+    return String.format("%s(%s)", this.metadata.name, this.wrappedValue.toString());
   }
 
   @Override
@@ -38,22 +44,59 @@ public class $UserDefinedType<T> extends ClaroUserDefinedTypeImplementation {
       return false;
     }
     $UserDefinedType<?> otherUserDefinedType = ($UserDefinedType<?>) obj;
-    if (!(this.name.equals(otherUserDefinedType.name)
-          && this.definingModuleDisambiguator.equals(otherUserDefinedType.definingModuleDisambiguator)
-          && this.parameterizedTypes.equals(otherUserDefinedType.parameterizedTypes))) {
-      return false;
-    }
-
-    return this.wrappedType.equals(otherUserDefinedType.wrappedType)
+    // Metadata is shared by all values constructed from the same codegen'd constant, so this is usually an identity
+    // check.
+    return this.metadata.equals(otherUserDefinedType.metadata)
            && this.wrappedValue.equals(otherUserDefinedType.wrappedValue);
   }
 
   @Override
   public int hashCode() {
-    return 31 + this.name.hashCode()
-           + (31 * this.definingModuleDisambiguator.hashCode())
-           + (31 * this.parameterizedTypes.hashCode())
-           + (31 * this.wrappedType.hashCode())
-           + (31 * this.wrappedValue.hashCode());
+    return 31 + this.metadata.hashCode() + (31 * this.wrappedValue.hashCode());
+  }
+
+  public static final class Metadata {
+    private final String name;
+    private final String definingModuleDisambiguator;
+    private final ImmutableList<Type> parameterizedTypes;
+    private final Type wrappedType;
+    private final Type claroType;
+    // Computed on first use (like String::hashCode) since values are rarely hashed.
+    private int hashCode;
+
+    public Metadata(
+        String name, String definingModuleDisambiguator, ImmutableList<Type> parameterizedTypes, Type wrappedType) {
+      this.name = name;
+      this.definingModuleDisambiguator = definingModuleDisambiguator;
+      this.parameterizedTypes = parameterizedTypes;
+      this.wrappedType = wrappedType;
+      this.claroType =
+          Types.UserDefinedType.forTypeNameAndParameterizedTypes(name, definingModuleDisambiguator, parameterizedTypes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Metadata)) {
+        return false;
+      }
+      Metadata other = (Metadata) obj;
+      return this.name.equals(other.name)
+             && this.definingModuleDisambiguator.equals(other.definingModuleDisambiguator)
+             && this.parameterizedTypes.equals(other.parameterizedTypes)
+             && this.wrappedType.equals(other.wrappedType);
+    }
+
+    @Override
+    public int hashCode() {
+      int res = this.hashCode;
+      if (res == 0) {
+        res = Objects.hash(this.name, this.definingModuleDisambiguator, this.parameterizedTypes, this.wrappedType);
+        this.hashCode = res;
+      }
+      return res;
+    }
   }
 }
@@ -6,10 +6,13 @@ import com.claro.intermediate_representation.types.Type;
 import com.claro.intermediate_representation.types.TypeProvider;
 import com.google.common.collect.*;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 
 // TODO(steving) Eventually all static centralized state should be moved here to avoid fighting circular deps ever again.
 // It's just become too unwieldy to actually have each class manage its own centralized static state given that the
@@ -19,6 +22,11 @@ import java.util.function.BiFunction;
 public class InternalStaticStateUtil {
   public static boolean DEP_MODULE_MONOMORPHIZATION_ENABLED = false;
   public static Optional<String> optionalGeneratedClassName = Optional.empty();
+  // Runtime type descriptors that generated code would otherwise construct anew every time they're evaluated (e.g. on
+  // every single struct literal). Instead, each distinct one is codegen'd exactly once as a constant in the compilation
+  // unit's $RuntimeTypeConstants holder class.
+  public static final HashMap<String, String> RuntimeTypeConstants_fieldNamesByJavaSource = new HashMap<>();
+  public static final StringBuilder RuntimeTypeConstants_fieldDefinitions = new StringBuilder();
   public static final ImmutableTable.Builder<String, String, Integer>
       AtomDefinition_CACHE_INDEX_BY_MODULE_AND_ATOM_NAME =
       ImmutableTable.builder();
@@ -69,7 +77,8 @@ public class InternalStaticStateUtil {
   // the enclosing Generic procedure `requires` that implementation of the contract.
   public static Optional<ArrayListMultimap/*<String, ImmutableList<Types.$GenericTypeParam>>*/>
       LambdaExpr_optionalActiveGenericProcedureDefRequiredContractNamesToGenericArgs = Optional.empty();
-  public static boolean IfStmt_withinConditionTypeValidation = false;
+  // Thread-confined as procedure bodies may be validated concurrently.
+  public static final ThreadLocal<Boolean> IfStmt_withinConditionTypeValidation = ThreadLocal.withInitial(() -> false);
   public static HashBasedTable<String, String, ImmutableSet<String>>
       InitializersBlockStmt_initializersByInitializedTypeNameAndModuleDisambiguator = HashBasedTable.create();
   public static HashBasedTable<String, String, ImmutableSet<String>>
@@ -82,12 +91,85 @@ public class InternalStaticStateUtil {
   public static String ComprehensionExpr_nestedComprehensionMappedItemName;
   public static HashSet<String> ComprehensionExpr_nestedComprehensionIdentifierReferences = new HashSet<>();
   public static boolean LoopingConstructs_withinLoopingConstructBody = false;
+  // The label of the innermost loop currently being validated. A `break` may be codegen'd within a Java `switch` (e.g.
+  // from a `match` stmt) where an unlabeled `break;` would only exit the switch, so BreakStmt always targets this label.
+  public static String LoopingConstructs_innermostLoopLabel = null;
+  // Present only while validating the where clause and mapped exprs of a `parallel` comprehension, collecting anything
+  // within that would make it unsafe to evaluate concurrently so that it can be reported.
+  public static Optional<ParallelComprehensionValidationState>
+      ComprehensionExpr_optionalParallelComprehensionValidationState = Optional.empty();
+  // Set by ProgramNode as only it can see the Stmt impls necessary to inspect the called procedure's body w/o a circular
+  // dep. Until then, no procedure call is considered provably side-effect free.
+  public static BiPredicate<String, Type> ProgramNode_isProvablySideEffectFreeProcedureCallFn =
+      (procedureName, procedureType) -> false;
   // Throughout compilation I'll collect a list of all dep module monomorphizations for which codegen will be needed
   // from dep modules.
   public static HashMultimap<String, IPCMessages.MonomorphizationRequest>
       JavaSourceCompilerBackend_depModuleGenericMonomoprhizationsNeeded =
       HashMultimap.create();
 
+  // Returns a reference to a constant holding the value of the given Java source, which must be a side-effect free
+  // expression that only depends on other constants (i.e. a Types.* factory expression).
+  public static String getRuntimeTypeConstant(String declaredJavaType, String javaSource) {
+    // Dep module monomorphizations are codegen'd on behalf of a dep module that has already been compiled, so there's
+    // nowhere to put a new constant.
+    if (DEP_MODULE_MONOMORPHIZATION_ENABLED) {
+      return javaSource;
+    }
+    return "$RuntimeTypeConstants." + RuntimeTypeConstants_fieldNamesByJavaSource.computeIfAbsent(
+        javaSource,
+        unused -> {
+          String fieldName = "$" + RuntimeTypeConstants_fieldNamesByJavaSource.size();
+          RuntimeTypeConstants_fieldDefinitions.append(
+              String.format("  static final %s %s = %s;\n", declaredJavaType, fieldName, javaSource));
+          return fieldName;
+        }
+    );
+  }
+
+  // The runtime type constants are specific to the compilation unit that they're codegen'd into, so they must be reset
+  // before codegen for each new compilation unit (or monomorphization request) to avoid leaking into the next.
+  public static void resetRuntimeTypeConstants() {
+    RuntimeTypeConstants_fieldNamesByJavaSource.clear();
+    RuntimeTypeConstants_fieldDefinitions.setLength(0);
+  }
+
+  public static void recordBlockingCallWithinParallelComprehension(String procedureName, Type procedureType) {
+    ComprehensionExpr_optionalParallelComprehensionValidationState.ifPresent(
+        state -> state.blockingCalls.put(procedureName, procedureType));
+  }
+
+  // Only static calls to procedures defined in this compilation unit can possibly be proven side-effect free. For
+  // first-class calls, the procedure actually called isn't known until runtime.
+  public static void recordProcedureCallWithinParallelComprehension(
+      String procedureName, Type procedureType, boolean isStaticCall) {
+    ComprehensionExpr_optionalParallelComprehensionValidationState.ifPresent(
+        state -> {
+          if (!isStaticCall || !ProgramNode_isProvablySideEffectFreeProcedureCallFn.test(procedureName, procedureType)) {
+            state.unprovablySideEffectFreeCalls.put(procedureName, procedureType);
+          }
+        });
+  }
+
+  public static void recordIdentifierReferenceWithinParallelComprehension(String identifier, Type identifierType) {
+    ComprehensionExpr_optionalParallelComprehensionValidationState.ifPresent(
+        state -> state.identifierReferences.put(identifier, identifierType));
+  }
+
+  public static void recordItemNameWithinParallelComprehension(String itemName) {
+    ComprehensionExpr_optionalParallelComprehensionValidationState.ifPresent(
+        state -> state.itemNames.add(itemName));
+  }
+
+  public static final class ParallelComprehensionValidationState {
+    public final LinkedHashMap<String, Type> blockingCalls = new LinkedHashMap<>();
+    public final LinkedHashMap<String, Type> unprovablySideEffectFreeCalls = new LinkedHashMap<>();
+    public final LinkedHashMap<String, Type> identifierReferences = new LinkedHashMap<>();
+    // The item names of the `parallel` comprehension and any comprehensions nested within it. These are private to
+    // each concurrently evaluated item, so they're the only identifiers that may be referenced regardless of mutability.
+    public final HashSet<String> itemNames = new HashSet<>();
+  }
+
   // This function allows IdentifierReferenceterm to add any referenced vars so that the codegen for the outermost
   // collection can create a class that collects the referenced variables in order to workaround Java's effectively
   // final requirement within lambdas (as comprehension codegen produces lambdas for streaming map/filter).
@@ -0,0 +1,134 @@
+package com.claro.runtime_utilities;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Data-loader style batching of single-key loads. Individual calls to {@link #load(Object)} made within a short window
+ * are collected and dispatched as a single batched load, and the results are fanned back out to each waiting caller.
+ * This is what lets many Graph Procedure nodes that each look up a single key against the same backend collapse into
+ * one outbound call per batch rather than N.
+ * <p>
+ * Duplicate keys requested within the same batch share a single result. If the batched load turns out to be
+ * unsupported (signalled by it throwing UnsupportedOperationException, the convention used by the stdlib cache loaders)
+ * then this permanently falls back to loading each key individually.
+ * <p>
+ * A zero window does NOT give per-tick coalescing. There's no event loop to wait on a tick of. The dispatch is simply
+ * handed to the multithreaded default executor, and an idle thread may run it right away. So a zero window only
+ * coalesces loads that happen to race in before that dispatch starts. Use a small positive window (e.g. 1ms) to
+ * reliably batch a burst of loads.
+ */
+public final class BatchingKeyLoader<K, V> {
+  private final Function<K, ListenableFuture<V>> loadOne;
+  private final Function<Set<K>, ListenableFuture<? extends Map<K, V>>> loadAll;
+  private final int maxBatchSize;
+  private final long windowNanos;
+
+  // Guarded by `this`. Replaced wholesale each time a batch is dispatched.
+  private Map<K, SettableFuture<V>> pendingBatch = new LinkedHashMap<>();
+  private volatile boolean loadAllUnsupported = false;
+
+  public BatchingKeyLoader(
+      Function<K, ListenableFuture<V>> loadOne,
+      Function<Set<K>, ListenableFuture<? extends Map<K, V>>> loadAll,
+      int maxBatchSize,
+      Duration window) {
+    this.loadOne = loadOne;
+    this.loadAll = loadAll;
+    this.maxBatchSize = Math.max(maxBatchSize, 1);
+    this.windowNanos = Math.max(window.toNanos(), 0);
+  }
+
+  public ListenableFuture<V> load(K key) {
+    if (this.loadAllUnsupported) {
+      return this.loadOne.apply(key);
+    }
+    SettableFuture<V> res;
+    Map<K, SettableFuture<V>> fullBatch = null;
+    synchronized (this) {
+      res = this.pendingBatch.get(key);
+      if (res != null) {
+        return res;
+      }
+      res = SettableFuture.create();
+      this.pendingBatch.put(key, res);
+      if (this.pendingBatch.size() == 1) {
+        scheduleDispatch(this.pendingBatch);
+      }
+      if (this.pendingBatch.size() >= this.maxBatchSize) {
+        fullBatch = this.pendingBatch;
+        this.pendingBatch = new LinkedHashMap<>();
+      }
+    }
+    if (fullBatch != null) {
+      dispatch(fullBatch);
+    }
+    return res;
+  }
+
+  private void scheduleDispatch(Map<K, SettableFuture<V>> batch) {
+    Runnable dispatchIfStillPending = () -> {
+      synchronized (this) {
+        // The batch may have already been dispatched early for having filled up.
+        if (this.pendingBatch != batch) {
+          return;
+        }
+        this.pendingBatch = new LinkedHashMap<>();
+      }
+      dispatch(batch);
+    };
+    if (this.windowNanos == 0) {
+      // Best effort only, see the class doc.
+      ClaroRuntimeUtilities.DEFAULT_EXECUTOR_SERVICE.execute(dispatchIfStillPending);
+    } else {
+      ClaroRuntimeUtilities.$getScheduledExecutorService()
+          .schedule(dispatchIfStillPending, this.windowNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void dispatch(Map<K, SettableFuture<V>> batch) {
+    ListenableFuture<? extends Map<K, V>> batchResult;
+    try {
+      batchResult = this.loadAll.apply(batch.keySet());
+    } catch (UnsupportedOperationException e) {
+      this.loadAllUnsupported = true;
+      batch.forEach((key, res) -> res.setFuture(this.loadOne.apply(key)));
+      return;
+    } catch (RuntimeException e) {
+      batch.values().forEach(res -> res.setException(e));
+      return;
+    }
+    Futures.addCallback(
+        batchResult,
+        new FutureCallback<Map<K, V>>() {
+          @Override
+          public void onSuccess(Map<K, V> loaded) {
+            batch.forEach((key, res) -> {
+              V value = loaded.get(key);
+              if (value == null) {
+                res.setException(new IllegalStateException("Batched load returned no value for key: " + key));
+              } else {
+                res.set(value);
+              }
+            });
+          }
+
+          @Override
+          public void onFailure(Throwable throwable) {
+            batch.values().forEach(res -> res.setException(throwable));
+          }
+        },
+        MoreExecutors.directExecutor()
+    );
+  }
+}
@@ -0,0 +1,73 @@
+package com.claro.runtime_utilities;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Backs the stdlib `cache::CacheBuilder`. The underlying (Caffeine) builder only allows an executor to be selected once,
+ * and has no way to ask whether one already was, so the explicitly selected executor (if any) is tracked here instead
+ * and applied exactly once when the first cache is built.
+ * <p>
+ * Similarly, a weigher is specific to the K/V types of the one cache that it's applied for (by `cache::buildWeighted*()`,
+ * so that its K/V are statically checked against the cache's), and Caffeine won't let it be unset. So once a weighted
+ * cache has been built, this refuses to build any other cache from the same builder.
+ */
+public final class CacheBuilderHolder<B> {
+  // Pools created by `cache::fixedThreadPoolExecutor()` are shared process-wide by thread count, so that calling it per
+  // cache doesn't leak a new pool each time (they're never shut down before the program exits).
+  private static final ConcurrentHashMap<Integer, Executor> FIXED_THREAD_POOL_EXECUTORS_BY_THREAD_COUNT =
+      new ConcurrentHashMap<>();
+
+  public final B builder;
+  private Optional<Executor> optionalExplicitExecutor = Optional.empty();
+  private boolean executorApplied = false;
+  private boolean weigherApplied = false;
+
+  public CacheBuilderHolder(B builder) {
+    this.builder = builder;
+  }
+
+  public synchronized void selectExecutor(Executor executor) {
+    if (this.executorApplied) {
+      throw new IllegalStateException("cache::executor() must be selected before building a cache from this builder.");
+    }
+    this.optionalExplicitExecutor = Optional.of(executor);
+  }
+
+  public static Executor getFixedThreadPoolExecutor(int threads) {
+    return FIXED_THREAD_POOL_EXECUTORS_BY_THREAD_COUNT.computeIfAbsent(
+        threads,
+        unused ->
+            // Ensure that the pool doesn't make the JVM hang on program completion.
+            MoreExecutors.getExitingExecutorService((ThreadPoolExecutor) Executors.newFixedThreadPool(threads))
+    );
+  }
+
+  // Every cache build goes through here to get the underlying builder, w/ the selected (or default) executor applied.
+  public synchronized B prepareForBuild(BiConsumer<B, Executor> applyExecutor) {
+    if (this.weigherApplied) {
+      throw new IllegalStateException(
+          "A weighted cache was already built from this cache::CacheBuilder, so no other cache may be built from it.");
+    }
+    if (!this.executorApplied) {
+      applyExecutor.accept(
+          this.builder, this.optionalExplicitExecutor.orElse(ClaroRuntimeUtilities.DEFAULT_EXECUTOR_SERVICE));
+      this.executorApplied = true;
+    }
+    return this.builder;
+  }
+
+  public synchronized B prepareForWeightedBuild(BiConsumer<B, Executor> applyExecutor, Consumer<B> applyWeigher) {
+    B res = prepareForBuild(applyExecutor);
+    applyWeigher.accept(res);
+    this.weigherApplied = true;
+    return res;
+  }
+}
@@ -48,28 +48,65 @@ public class ClaroRuntimeUtilities {
               }
           )
       );
-  public static ListeningScheduledExecutorService $SCHEDULED_EXECUTOR_SERVICE = null;
+  // The scheduler is lazily initialized (via the holder class idiom, so it's threadsafe w/o locking) since most programs
+  // never schedule anything.
   public static ListeningScheduledExecutorService $getScheduledExecutorService() {
-    final int SCHEDULED_THREAD_POOL_SIZE = 1;
-    if ($SCHEDULED_EXECUTOR_SERVICE == null) {
-      $SCHEDULED_EXECUTOR_SERVICE =
+    return ScheduledExecutorServiceHolder.SCHEDULED_EXECUTOR_SERVICE;
+  }
+
+  // Scheduled actions that may do arbitrarily slow work are handed off to this pool once their timer fires so that they
+  // never hold up the scheduler's timer threads (and so every other pending timer in the process). The pool is bounded
+  // (configurable via -Dclaro.scheduler_action_threads) so that a burst of timers can't spawn unbounded threads, any
+  // excess actions simply queue up until a thread frees up.
+  public static ListeningExecutorService $getScheduledActionExecutorService() {
+    return ScheduledExecutorServiceHolder.SCHEDULED_ACTION_EXECUTOR_SERVICE;
+  }
+
+  private static final class ScheduledExecutorServiceHolder {
+    private static final int SCHEDULED_THREAD_POOL_SIZE =
+        Math.max(Integer.getInteger("claro.scheduler_threads", 2), 1);
+    private static final int SCHEDULED_ACTION_THREAD_POOL_SIZE =
+        Math.max(
+            Integer.getInteger("claro.scheduler_action_threads", Runtime.getRuntime().availableProcessors()), 1);
+    private static final ThreadGroup SCHEDULED_EXECUTOR_SERVICE_THREAD_GROUP =
+        new ThreadGroup("claro-scheduled-executor-service-thread");
+
+    private static final ListeningScheduledExecutorService SCHEDULED_EXECUTOR_SERVICE;
+    private static final ListeningExecutorService SCHEDULED_ACTION_EXECUTOR_SERVICE;
+
+    static {
+      ScheduledThreadPoolExecutor scheduledThreadPoolExecutor =
+          new ScheduledThreadPoolExecutor(
+              SCHEDULED_THREAD_POOL_SIZE,
+              r -> new Thread(SCHEDULED_EXECUTOR_SERVICE_THREAD_GROUP, r)
+          );
+      // Timeouts are overwhelmingly cancelled before they ever fire (e.g. Graph Procedure deadlines), so make sure that
+      // they don't pile up in the timer queue until their (possibly distant) deadline.
+      scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+      SCHEDULED_EXECUTOR_SERVICE =
           MoreExecutors.listeningDecorator(
               // Ensure that the scheduled executor doesn't make the JVM hang on program completion.
-              MoreExecutors.getExitingScheduledExecutorService(
-                  new ScheduledThreadPoolExecutor(
-                      SCHEDULED_THREAD_POOL_SIZE,
-                      new ThreadFactory() {
-                        private final ThreadGroup SCHEDULED_EXECUTOR_SERVICE_THREAD_GROUP =
-                            new ThreadGroup("claro-scheduled-executor-service-thread");
+              MoreExecutors.getExitingScheduledExecutorService(scheduledThreadPoolExecutor));
 
-                        @Override
-                        public Thread newThread(Runnable r) {
-                          return new Thread(SCHEDULED_EXECUTOR_SERVICE_THREAD_GROUP, r);
-                        }
-                      }
-                  )));
+      AtomicInteger actionThreadNumber = new AtomicInteger(1);
+      ThreadPoolExecutor actionThreadPoolExecutor =
+          new ThreadPoolExecutor(
+              SCHEDULED_ACTION_THREAD_POOL_SIZE,
+              SCHEDULED_ACTION_THREAD_POOL_SIZE,
+              60L,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              r -> new Thread(
+                  SCHEDULED_EXECUTOR_SERVICE_THREAD_GROUP,
+                  r,
+                  "claro-scheduled-action-thread-" + actionThreadNumber.getAndIncrement()
+              )
+          );
+      // Most programs only schedule the occasional action, so don't keep idle threads around between them.
+      actionThreadPoolExecutor.allowCoreThreadTimeOut(true);
+      SCHEDULED_ACTION_EXECUTOR_SERVICE =
+          MoreExecutors.listeningDecorator(MoreExecutors.getExitingExecutorService(actionThreadPoolExecutor));
     }
-    return $SCHEDULED_EXECUTOR_SERVICE;
   }
 
   // Implementation of this shutdown hook taken directly from ExecutorService documentation: https://docs.oracle.com/javase/8/docs/api/java/util/concurrent/ExecutorService.html?is-external=true#:~:text=void%20shutdownAndAwaitTermination(ExecutorService,Thread.currentThread().interrupt()%3B%0A%20%20%20%7D%0A%20%7D
@@ -0,0 +1,135 @@
+package com.claro.runtime_utilities;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Sits in front of the vtable codegen'd for each Contract procedure that supports dynamic dispatch. A vtable lookup
+ * requires allocating an ImmutableList key and hashing the full (possibly deeply nested) runtime Type of every dispatched
+ * arg. In practice, any given dispatch helper tends to only ever see a handful of distinct concrete types (e.g. looping
+ * over a `[oneof<A, B, C>]`), so a small polymorphic cache checked by identity avoids that work on the hot path entirely.
+ * <p>
+ * Keys are only ever compared by identity, as a deep Type comparison on every miss would cost about as much as the
+ * vtable lookup being avoided. Call sites that keep missing (megamorphic sites dispatching over more distinct types than
+ * the cache holds, or sites whose runtime Types are freshly constructed on every call) stop consulting the cache once
+ * they miss MAX_MISSES_PER_WINDOW times within a window of LOOKUP_WINDOW lookups, and go straight to the vtable so they
+ * pay no more than they would without the cache. Misses are only counted per window so that a site that's just warming
+ * up, or that only occasionally sees a new type, isn't mistaken for megamorphic over a long running program. And as a
+ * site's types may settle down again (e.g. once the program moves on to its next phase), megamorphic sites give the
+ * cache another chance every MEGAMORPHIC_LOOKUPS_BEFORE_REPROBE lookups.
+ * <p>
+ * This is deliberately unsynchronized. Entries are immutable and are published via a single reference write, so racing
+ * threads can at worst observe a stale entry (which is still valid) or clobber each other's most recent entry (which
+ * just means taking the slow path again).
+ */
+public final class DynamicDispatchInlineCache {
+  private static final int CACHE_SIZE = 4;
+  private static final int LOOKUP_WINDOW = 256;
+  private static final int MAX_MISSES_PER_WINDOW = 64;
+  private static final int MEGAMORPHIC_LOOKUPS_BEFORE_REPROBE = 1 << 16;
+
+  private final ImmutableMap<ImmutableList<Object>, Integer> vtable;
+  private final Entry[] entries = new Entry[CACHE_SIZE];
+  private int nextEvictedEntry = 0;
+  // A long so that a site that only ever hits can't overflow into a negative (and so never ending) window.
+  private long windowLookups = 0;
+  private int windowMisses = 0;
+  private int megamorphicLookups = 0;
+  private boolean megamorphic = false;
+
+  public DynamicDispatchInlineCache(ImmutableMap<ImmutableList<Object>, Integer> vtable) {
+    this.vtable = vtable;
+  }
+
+  public Integer get(Object key) {
+    if (this.megamorphic) {
+      return megamorphicLookup(ImmutableList.of(key));
+    }
+    this.windowLookups++;
+    for (Entry entry : this.entries) {
+      if (entry == null) {
+        break;
+      }
+      if (entry.keys.length == 1 && entry.keys[0] == key) {
+        return entry.vtableIndex;
+      }
+    }
+    return lookupAndCache(new Object[]{key});
+  }
+
+  public Integer get(Object key1, Object key2) {
+    if (this.megamorphic) {
+      return megamorphicLookup(ImmutableList.of(key1, key2));
+    }
+    this.windowLookups++;
+    for (Entry entry : this.entries) {
+      if (entry == null) {
+        break;
+      }
+      if (entry.keys.length == 2 && entry.keys[0] == key1 && entry.keys[1] == key2) {
+        return entry.vtableIndex;
+      }
+    }
+    return lookupAndCache(new Object[]{key1, key2});
+  }
+
+  public Integer get(Object... keys) {
+    if (this.megamorphic) {
+      return megamorphicLookup(ImmutableList.copyOf(keys));
+    }
+    this.windowLookups++;
+    for (Entry entry : this.entries) {
+      if (entry == null) {
+        break;
+      }
+      if (entry.keys.length == keys.length) {
+        boolean matches = true;
+        for (int i = 0; matches && i < keys.length; i++) {
+          matches = entry.keys[i] == keys[i];
+        }
+        if (matches) {
+          return entry.vtableIndex;
+        }
+      }
+    }
+    return lookupAndCache(keys.clone());
+  }
+
+  private Integer lookupAndCache(Object[] keys) {
+    Integer vtableIndex = this.vtable.get(ImmutableList.copyOf(keys));
+    if (this.windowLookups > LOOKUP_WINDOW) {
+      // The prior window ended w/o enough misses to be considered megamorphic, so this miss starts a new window.
+      this.windowLookups = 1;
+      this.windowMisses = 0;
+    }
+    if (++this.windowMisses >= MAX_MISSES_PER_WINDOW) {
+      this.megamorphic = true;
+      this.megamorphicLookups = 0;
+    } else if (vtableIndex != null) {
+      int evictedEntry = this.nextEvictedEntry;
+      this.entries[evictedEntry] = new Entry(keys, vtableIndex);
+      this.nextEvictedEntry = (evictedEntry + 1) % CACHE_SIZE;
+    }
+    return vtableIndex;
+  }
+
+  private Integer megamorphicLookup(ImmutableList<Object> keys) {
+    if (++this.megamorphicLookups >= MEGAMORPHIC_LOOKUPS_BEFORE_REPROBE) {
+      // Give the cache another chance. Any entries left over from before are still valid since the vtable is immutable.
+      this.megamorphic = false;
+      this.windowLookups = 0;
+      this.windowMisses = 0;
+    }
+    return this.vtable.get(keys);
+  }
+
+  private static final class Entry {
+    private final Object[] keys;
+    private final Integer vtableIndex;
+
+    private Entry(Object[] keys, Integer vtableIndex) {
+      this.keys = keys;
+      this.vtableIndex = vtableIndex;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.claro.runtime_utilities;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Carries the cancellation state (and optional deadline) of a single Graph Procedure invocation. Every generated
+ * $GraphAsyncImpl creates one of these, and binds it to the root node's future so that:
+ * - cancelling the root future (e.g. because the caller gave up on it) marks the invocation cancelled, and Guava's
+ * transform/allAsList futures propagate that cancellation (w/ interruption) upstream to every in-flight node
+ * - nodes that haven't started yet observe the cancellation and never run their bodies
+ * - if a deadline is configured via `-Dclaro.graph_deadline_ms=<millis>`, the root future is automatically cancelled
+ * once it expires
+ * <p>
+ * A tighter deadline can be set for individual calls via {@link #callWithDeadline(Duration, Supplier)} (exposed to
+ * Claro programs as `futures::withGraphDeadline()`).
+ * <p>
+ * Nested graph invocations made from within a node inherit the calling invocation's deadline if it's tighter than their
+ * own, and the remaining budget is observable from runtime code running within a node via {@link
+ * #currentRemainingNanos()}.
+ */
+public final class GraphInvocationContext {
+  public static final long DEFAULT_DEADLINE_MILLIS = Long.getLong("claro.graph_deadline_ms", 0L);
+  private static final long NO_DEADLINE = Long.MAX_VALUE;
+  private static final ThreadLocal<GraphInvocationContext> CURRENT = new ThreadLocal<>();
+
+  private final long deadlineNanos;
+  private volatile boolean cancelled = false;
+
+  private GraphInvocationContext(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  // Called once per graph invocation by the generated $GraphAsyncImpl.
+  public static GraphInvocationContext create() {
+    long deadlineNanos = defaultDeadlineNanos();
+    GraphInvocationContext parent = CURRENT.get();
+    if (parent != null && parent.deadlineNanos != NO_DEADLINE
+        && (deadlineNanos == NO_DEADLINE || parent.deadlineNanos - deadlineNanos < 0)) {
+      deadlineNanos = parent.deadlineNanos;
+    }
+    return new GraphInvocationContext(deadlineNanos);
+  }
+
+  // Called once per computation of a `memoized node`. That computation is shared by every invocation awaiting it, so it
+  // gets its own deadline rather than inheriting that of whichever invocation happened to schedule it.
+  public static GraphInvocationContext createDetached() {
+    return new GraphInvocationContext(defaultDeadlineNanos());
+  }
+
+  // Any graph invoked directly by the given call (but not those that it schedules to be invoked later) is bound to the
+  // given deadline, as they'll inherit it from the context entered here just as nested graphs inherit their caller's.
+  public static <T> T callWithDeadline(Duration deadline, Supplier<T> call) {
+    long deadlineNanos = System.nanoTime() + Math.max(deadline.toNanos(), 0);
+    GraphInvocationContext parent = CURRENT.get();
+    if (parent != null && parent.deadlineNanos != NO_DEADLINE && parent.deadlineNanos - deadlineNanos < 0) {
+      deadlineNanos = parent.deadlineNanos;
+    }
+    GraphInvocationContext prev = enter(new GraphInvocationContext(deadlineNanos));
+    try {
+      return call.get();
+    } finally {
+      exit(prev);
+    }
+  }
+
+  private static long defaultDeadlineNanos() {
+    return DEFAULT_DEADLINE_MILLIS > 0
+           ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEFAULT_DEADLINE_MILLIS)
+           : NO_DEADLINE;
+  }
+
+  // Ties this invocation's lifetime to the given root node future, returning the future that should actually be handed
+  // back to the graph's caller.
+  public <T> ListenableFuture<T> bindRoot(ListenableFuture<T> rootFuture) {
+    rootFuture.addListener(
+        () -> {
+          if (rootFuture.isCancelled()) {
+            this.cancelled = true;
+          }
+        },
+        MoreExecutors.directExecutor()
+    );
+    if (this.deadlineNanos == NO_DEADLINE || rootFuture.isDone()) {
+      return rootFuture;
+    }
+    // On expiry, withTimeout cancels the root w/ interruption which then propagates to all in-flight upstream nodes.
+    return Futures.withTimeout(
+        rootFuture, remainingNanos(), TimeUnit.NANOSECONDS, ClaroRuntimeUtilities.$getScheduledExecutorService());
+  }
+
+  public boolean isCancelled() {
+    return this.cancelled || (this.deadlineNanos != NO_DEADLINE && remainingNanos() <= 0);
+  }
+
+  public void throwIfCancelled() {
+    if (isCancelled()) {
+      throw new CancellationException("Graph invocation was cancelled or exceeded its deadline.");
+    }
+  }
+
+  public long remainingNanos() {
+    return this.deadlineNanos == NO_DEADLINE ? NO_DEADLINE : this.deadlineNanos - System.nanoTime();
+  }
+
+  // Generated node impls bracket their bodies w/ enter()/exit() so that runtime code (and nested graph invocations)
+  // running within a node can find the invocation they're a part of.
+  public static GraphInvocationContext enter(GraphInvocationContext context) {
+    GraphInvocationContext prev = CURRENT.get();
+    CURRENT.set(context);
+    return prev;
+  }
+
+  public static void exit(GraphInvocationContext prev) {
+    if (prev == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(prev);
+    }
+  }
+
+  // Long.MAX_VALUE if the current thread isn't running a graph node, or its invocation has no deadline.
+  public static long currentRemainingNanos() {
+    GraphInvocationContext context = CURRENT.get();
+    return context == null ? NO_DEADLINE : context.remainingNanos();
+  }
+}
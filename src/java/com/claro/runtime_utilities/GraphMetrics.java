@@ -0,0 +1,201 @@
+package com.claro.runtime_utilities;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of Graph Procedure execution. Enabled by running a Claro program with
+ * `-Dclaro.graph_metrics=true`, in which case generated Graph Procedures record, for every node of every invocation:
+ * - the time spent waiting since the node was first scheduled (on upstream deps, and then for an executor thread)
+ * - the time spent actually executing the node's body
+ * These are aggregated into per-graph/per-node latency histograms, emitted as JFR events (`claro.GraphNodeExecution`),
+ * and the most recent invocation of each graph is kept around as a waterfall trace so that it's possible to see exactly
+ * which nodes were on the critical path.
+ * <p>
+ * When disabled, ENABLED is a static final false that the JIT folds away, so generated code pays nothing.
+ */
+public final class GraphMetrics {
+  public static final boolean ENABLED = Boolean.getBoolean("claro.graph_metrics");
+
+  // Keyed by "<graph>.<node>".
+  private static final ConcurrentHashMap<String, Histogram> WAIT_NANOS_BY_NODE = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, Histogram> EXEC_NANOS_BY_NODE = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, Trace> LAST_TRACE_BY_GRAPH = new ConcurrentHashMap<>();
+
+  static {
+    if (ENABLED) {
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.println(formatReport())));
+    }
+  }
+
+  private GraphMetrics() {
+  }
+
+  // Called once per graph invocation by the generated $GraphAsyncImpl.
+  public static Trace newTraceIfEnabled(String graphName) {
+    return ENABLED ? new Trace(graphName) : null;
+  }
+
+  public static void recordNode(
+      Trace trace, String nodeName, long scheduledNanos, long execStartNanos, long execEndNanos, boolean isRoot) {
+    String key = trace.graphName + "." + nodeName;
+    long waitNanos = execStartNanos - scheduledNanos;
+    long execNanos = execEndNanos - execStartNanos;
+    WAIT_NANOS_BY_NODE.computeIfAbsent(key, unused -> new Histogram()).record(waitNanos);
+    EXEC_NANOS_BY_NODE.computeIfAbsent(key, unused -> new Histogram()).record(execNanos);
+
+    GraphNodeExecutionEvent event = new GraphNodeExecutionEvent();
+    if (event.isEnabled()) {
+      event.graph = trace.graphName;
+      event.node = nodeName;
+      event.waitNanos = waitNanos;
+      event.execNanos = execNanos;
+      event.commit();
+    }
+
+    trace.addSpan(nodeName, scheduledNanos, execStartNanos, execEndNanos);
+    if (isRoot) {
+      LAST_TRACE_BY_GRAPH.put(trace.graphName, trace);
+    }
+  }
+
+  // A memoized node's computation is shared across invocations and recorded under its own trace, so each invocation
+  // awaiting it only records when it got the result, without counting it again in the node's histograms.
+  public static void recordMemoizedNodeAwaited(Trace trace, String nodeName, long scheduledNanos, long doneNanos) {
+    trace.addSpan(nodeName + " (memoized)", scheduledNanos, doneNanos, doneNanos);
+  }
+
+  // Renders the histograms for every graph node, followed by the most recent trace of each graph.
+  public static String formatReport() {
+    StringBuilder res = new StringBuilder("Claro Graph Metrics (ms):\n");
+    new TreeMap<>(EXEC_NANOS_BY_NODE).forEach(
+        (node, execHistogram) ->
+            res.append(
+                String.format(
+                    "  %s: count=%s wait[%s] exec[%s]\n",
+                    node,
+                    execHistogram.count.sum(),
+                    WAIT_NANOS_BY_NODE.get(node).format(),
+                    execHistogram.format()
+                )));
+    new TreeMap<>(LAST_TRACE_BY_GRAPH).values().forEach(trace -> res.append(trace.format()));
+    return res.toString();
+  }
+
+  public static String getLastTrace(String graphName) {
+    Trace trace = LAST_TRACE_BY_GRAPH.get(graphName);
+    return trace == null ? "" : trace.format();
+  }
+
+  public static final class Trace {
+    private final String graphName;
+    private final long startNanos = System.nanoTime();
+    private final List<Span> spans = new ArrayList<>();
+
+    private Trace(String graphName) {
+      this.graphName = graphName;
+    }
+
+    private synchronized void addSpan(String nodeName, long scheduledNanos, long execStartNanos, long execEndNanos) {
+      this.spans.add(new Span(nodeName, scheduledNanos, execStartNanos, execEndNanos));
+    }
+
+    private synchronized String format() {
+      StringBuilder res = new StringBuilder("  Last trace of graph ").append(this.graphName).append(":\n");
+      this.spans.stream()
+          .sorted(Comparator.comparingLong(s -> s.execStartNanos))
+          .forEach(
+              s -> res.append(
+                  String.format(
+                      "    %-30s scheduled=+%.3f start=+%.3f end=+%.3f\n",
+                      s.nodeName,
+                      toMillis(s.scheduledNanos - this.startNanos),
+                      toMillis(s.execStartNanos - this.startNanos),
+                      toMillis(s.execEndNanos - this.startNanos)
+                  )));
+      return res.toString();
+    }
+  }
+
+  private static final class Span {
+    private final String nodeName;
+    private final long scheduledNanos;
+    private final long execStartNanos;
+    private final long execEndNanos;
+
+    private Span(String nodeName, long scheduledNanos, long execStartNanos, long execEndNanos) {
+      this.nodeName = nodeName;
+      this.scheduledNanos = scheduledNanos;
+      this.execStartNanos = execStartNanos;
+      this.execEndNanos = execEndNanos;
+    }
+  }
+
+  // A simple lock-free histogram w/ power-of-2 buckets which is plenty precise for eyeballing where time is going.
+  private static final class Histogram {
+    private final AtomicLongArray buckets = new AtomicLongArray(64);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    private void record(long nanos) {
+      nanos = Math.max(nanos, 0);
+      this.buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(nanos) - (nanos == 0 ? 0 : 1));
+      this.count.increment();
+      this.totalNanos.add(nanos);
+    }
+
+    // Upper bound of the bucket containing the given percentile.
+    private double percentileMillis(double percentile) {
+      long target = (long) Math.ceil(this.count.sum() * percentile);
+      long seen = 0;
+      for (int i = 0; i < 64; i++) {
+        seen += this.buckets.get(i);
+        if (seen >= target) {
+          return toMillis(i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)));
+        }
+      }
+      return toMillis(Long.MAX_VALUE);
+    }
+
+    private String format() {
+      long count = this.count.sum();
+      return String.format(
+          "mean=%.3f p50<=%.3f p99<=%.3f",
+          count == 0 ? 0.0 : toMillis(this.totalNanos.sum() / count),
+          percentileMillis(0.5),
+          percentileMillis(0.99)
+      );
+    }
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  @Name("claro.GraphNodeExecution")
+  @Label("Claro Graph Node Execution")
+  @Category("Claro")
+  static final class GraphNodeExecutionEvent extends Event {
+    @Label("Graph")
+    String graph;
+    @Label("Node")
+    String node;
+    @Label("Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long waitNanos;
+    @Label("Execution Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long execNanos;
+  }
+}
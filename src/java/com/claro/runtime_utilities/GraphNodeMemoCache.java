@@ -0,0 +1,119 @@
+package com.claro.runtime_utilities;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Backs `memoized node`s in Graph Procedures. Unlike the per-invocation cache of every other node's future, a memoized
+ * node's future is shared across *all* concurrent (and recent) invocations of the graph that pass equal inputs. So if
+ * many requests fan out to fetch the same hot entity at once, only the first actually schedules the node and the rest
+ * just wait on its in-flight result (single-flight request coalescing).
+ * <p>
+ * Each computation runs under its own detached GraphInvocationContext (see the generated `$<node>_memoizedNodeAsync`),
+ * so it has its own deadline. It's cancelled only once every invocation awaiting it has given up on it.
+ * <p>
+ * Bounds are configurable at runtime via `-Dclaro.graph_memo_max_size=<entries>` and `-Dclaro.graph_memo_ttl_ms=<millis>`
+ * (applied separately to each memoized node). Failed or cancelled results are never retained.
+ */
+public final class GraphNodeMemoCache<V> {
+  private static final long MAX_SIZE = Long.getLong("claro.graph_memo_max_size", 10_000L);
+  private static final long TTL_MILLIS = Long.getLong("claro.graph_memo_ttl_ms", 60_000L);
+
+  private final Cache<List<Object>, Computation<V>> cache =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_SIZE)
+          .expireAfterWrite(TTL_MILLIS, TimeUnit.MILLISECONDS)
+          .build();
+
+  // Graph inputs are deeply immutable by construction, so they're safe to use as (part of) a cache key.
+  public ListenableFuture<V> getOrSchedule(Supplier<ListenableFuture<V>> scheduleNode, Object... inputs) {
+    List<Object> key = Arrays.asList(inputs);
+    while (true) {
+      Computation<V> computation;
+      try {
+        // Guava's Cache guarantees that concurrent loads of the same key block on a single load.
+        computation = this.cache.get(key, () -> {
+          Computation<V> scheduled = new Computation<>(scheduleNode.get());
+          scheduled.future.addListener(
+              () -> {
+                if (!succeeded(scheduled.future)) {
+                  this.cache.asMap().remove(key, scheduled);
+                }
+              },
+              MoreExecutors.directExecutor()
+          );
+          return scheduled;
+        });
+      } catch (ExecutionException | UncheckedExecutionException e) {
+        return Futures.immediateFailedFuture(e.getCause());
+      }
+      if (computation.future.isDone() && !succeeded(computation.future)) {
+        // The listener above can't evict a future that had already failed before the load even finished.
+        this.cache.asMap().remove(key, computation);
+        return Futures.nonCancellationPropagating(computation.future);
+      }
+      if (computation.tryAwait()) {
+        return computation.newAwaitingView();
+      }
+      // Every invocation awaiting this computation just gave up on it, so it's being cancelled. Schedule a fresh one.
+      this.cache.asMap().remove(key, computation);
+    }
+  }
+
+  private static boolean succeeded(ListenableFuture<?> future) {
+    try {
+      Futures.getDone(future);
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private static final class Computation<V> {
+    private final ListenableFuture<V> future;
+    // Set to -1 once the last awaiting invocation has given up and the computation has been cancelled.
+    private final AtomicInteger awaitingCount = new AtomicInteger();
+
+    private Computation(ListenableFuture<V> future) {
+      this.future = future;
+    }
+
+    private boolean tryAwait() {
+      int curr;
+      do {
+        curr = this.awaitingCount.get();
+        if (curr < 0) {
+          return false;
+        }
+      } while (!this.awaitingCount.compareAndSet(curr, curr + 1));
+      return true;
+    }
+
+    // Any one invocation giving up on this result must not cancel it out from under every other invocation sharing it.
+    private ListenableFuture<V> newAwaitingView() {
+      ListenableFuture<V> view = Futures.nonCancellationPropagating(this.future);
+      view.addListener(
+          () -> {
+            if (view.isCancelled()
+                && this.awaitingCount.decrementAndGet() == 0
+                && this.awaitingCount.compareAndSet(0, -1)) {
+              this.future.cancel(true);
+            }
+          },
+          MoreExecutors.directExecutor()
+      );
+      return view;
+    }
+  }
+}
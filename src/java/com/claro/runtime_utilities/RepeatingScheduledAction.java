@@ -0,0 +1,95 @@
+package com.claro.runtime_utilities;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A periodically repeated action whose executions are handed off to the scheduled action pool rather than running on
+ * the scheduler's timer threads, so that a slow action can never delay any other pending timer in the process.
+ * <p>
+ * This otherwise mirrors {@link java.util.concurrent.ScheduledExecutorService} semantics. Executions never overlap, a
+ * fixed delay is measured from the end of the prior execution, and the first execution to throw stops all subsequent
+ * executions and fails this future. The only other way for this future to complete is by being cancelled. Unlike the
+ * JDK, fixed rate ticks that fire while the prior execution is still queued or running are dropped rather than piling
+ * up behind it.
+ */
+public final class RepeatingScheduledAction extends AbstractFuture<Object> {
+  private final Runnable action;
+  private final AtomicBoolean executionPending = new AtomicBoolean(false);
+  // Guarded by `this`. The timer that'll trigger the next execution.
+  private Future<?> pendingTimer;
+
+  private RepeatingScheduledAction(Runnable action) {
+    this.action = action;
+  }
+
+  public static ListenableFuture<Object> atFixedRate(Runnable action, Duration initialDelay, Duration period) {
+    RepeatingScheduledAction res = new RepeatingScheduledAction(action);
+    res.setPendingTimer(
+        ClaroRuntimeUtilities.$getScheduledExecutorService()
+            .scheduleAtFixedRate(res::onFixedRateTick, initialDelay, period));
+    return res;
+  }
+
+  public static ListenableFuture<Object> withFixedDelay(Runnable action, Duration initialDelay, Duration delay) {
+    RepeatingScheduledAction res = new RepeatingScheduledAction(action);
+    res.scheduleFixedDelayExecution(initialDelay, delay);
+    return res;
+  }
+
+  private void onFixedRateTick() {
+    if (this.executionPending.compareAndSet(false, true)) {
+      ClaroRuntimeUtilities.$getScheduledActionExecutorService().execute(() -> {
+        try {
+          runAction();
+        } finally {
+          this.executionPending.set(false);
+        }
+      });
+    }
+  }
+
+  private void scheduleFixedDelayExecution(Duration nextDelay, Duration delay) {
+    setPendingTimer(
+        ClaroRuntimeUtilities.$getScheduledExecutorService().schedule(
+            () -> ClaroRuntimeUtilities.$getScheduledActionExecutorService().execute(() -> {
+              if (runAction()) {
+                scheduleFixedDelayExecution(delay, delay);
+              }
+            }),
+            nextDelay
+        ));
+  }
+
+  // Returns false iff no further executions should happen.
+  private boolean runAction() {
+    if (isDone()) {
+      return false;
+    }
+    try {
+      this.action.run();
+      return true;
+    } catch (Throwable t) {
+      setException(t);
+      return false;
+    }
+  }
+
+  private synchronized void setPendingTimer(Future<?> timer) {
+    this.pendingTimer = timer;
+    if (isDone()) {
+      timer.cancel(false);
+    }
+  }
+
+  @Override
+  protected synchronized void afterDone() {
+    if (this.pendingTimer != null) {
+      this.pendingTimer.cancel(false);
+    }
+  }
+}
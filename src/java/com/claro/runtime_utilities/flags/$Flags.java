@@ -2,45 +2,167 @@ package com.claro.runtime_utilities.flags;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.devtools.common.options.OptionsBase;
-import com.google.devtools.common.options.OptionsParser;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 // This class is just a centralized container for any Flags that will be parsed on behalf of the current program's
 // declaration of flags in .claro_module_api files for modules composing the program.
 public class $Flags {
 
-  // Flags will be lazily parsed upon first usage.
-  private static ImmutableMap<String, Object> $parsedOptions = null;
-  private static boolean $isInitialized = false;
+  public enum FlagKind {
+    BOOLEAN,
+    INTEGER,
+    STRING,
+    STRING_LIST,
+  }
+
   // This will get statically initialized by the program's generated main class. Care will be taken to ensure that this
   // is statically initialized before any static value that attempts to depend on this class.
-  public static Class<? extends OptionsBase> $programOptionsClass = null;
-
-
-  // The same pattern that's used in codegen for `lazy static` values exported by modules. Unfortunately, Claro's static
-  // value initialization scheme would need to be able to access these flags as well, but based on the time in Java's
-  // startup lifecycle when they're actually initialized, there'd be no reliable mechanism to actually let the main
-  // method run any logic to put the flags passed into main anywhere. So the flags themselves will need to be retrieved
-  // from a JVM System Property that is not necessarily portable. For now, this actually imposes the first (obvious)
-  // portability issue for Claro.
-  public static synchronized ImmutableMap<String, Object> lazyStaticInitializer$parsedOptions() {
-    if (!$Flags.$isInitialized) {
-      // TODO(steving) Determine some better mechanism than the "sun.java.command" System Property to get args before
-      //   Claro's static value initializers run. If that's not possible, then Claro codegen will have to implement its own
-      //   static value initialization logic in the main method, so that the flags can definitely be accessed and parsed
-      //   before their initializers are triggered.
+  public static ImmutableMap<String, FlagKind> $programFlags = ImmutableMap.of();
+
+  // The args passed to the program's main method. The generated main method hands these over as the very first thing
+  // that it does, so that flags never need to be recovered from anywhere else.
+  private static volatile String[] mainArgs = null;
+
+
+  // The same pattern that's used in codegen for `lazy static` values exported by modules.
+  public static ImmutableMap<String, Object> lazyStaticInitializer$parsedOptions() {
+    return ParsedOptionsHolder.PARSED_OPTIONS;
+  }
+
+  // Called by the generated main method. Flags are parsed immediately so that any flag parsing errors are reported at
+  // startup rather than whenever some flag happens to be read for the first time.
+  public static void $parseMainArgs(String[] args) {
+    $Flags.mainArgs = args;
+    lazyStaticInitializer$parsedOptions();
+  }
+
+  // Flags will be parsed exactly once. The JVM guarantees that this holder class's static init runs exactly once on
+  // first access, so every read after that is lock-free.
+  private static final class ParsedOptionsHolder {
+    private static final ImmutableMap<String, Object> PARSED_OPTIONS = parseOptions();
+  }
+
+  private static ImmutableMap<String, Object> parseOptions() {
+    String[] args = $Flags.mainArgs;
+    if (args == null) {
+      // Some static value initializer read a flag before main even started (only possible if some static initializer
+      // in the main class itself transitively reads a flag). In that case, the only option is to recover the args from
+      // a JVM System Property that is not necessarily portable.
+      // TODO(steving) Once Claro codegen implements its own static value initialization logic in the main method, this
+      //   fallback can go away entirely.
       ImmutableList<String> argsList = ImmutableList.copyOf(System.getProperty("sun.java.command").split(" "));
       // Getting the flags from this system property includes the actual name of the program as the first arg, drop it.
-      String[] args = argsList.subList(1, argsList.size()).toArray(new String[]{});
-      OptionsParser parser = OptionsParser.newOptionsParser($Flags.$programOptionsClass);
+      args = argsList.subList(1, argsList.size()).toArray(new String[]{});
+    }
+    try {
+      return parseFlags($Flags.$programFlags, args);
+    } catch (IllegalArgumentException e) {
       // Report flag parsing errors and immediately exit because I don't want *all* flags usage in Claro to be forced to
       // model the possibility that they're absent. If a flag is necessary and no default was specified, then its
       // absence should be a terminal error.
-      parser.parseAndExitUponError(args);
+      System.err.println("Error parsing command line: " + e.getMessage());
+      System.exit(2);
+      throw e; // Unreachable.
+    }
+  }
+
+  // Supports `--name=value` and `--name value`, plus `--name` and `--noname` for booleans. Flags that can be given
+  // multiple times accumulate all of their values in order. Anything that isn't a flag (and everything after a bare
+  // `--`) is ignored.
+  static ImmutableMap<String, Object> parseFlags(ImmutableMap<String, FlagKind> flags, String[] args) {
+    Map<String, Object> parsed = new HashMap<>();
+    Map<String, ImmutableList.Builder<String>> parsedLists = new LinkedHashMap<>();
+    for (int i = 0; i < args.length; i++) {
+      String arg = args[i];
+      if (arg.equals("--")) {
+        break;
+      }
+      if (!arg.startsWith("--")) {
+        continue;
+      }
+      String name = arg.substring(2);
+      String value = null;
+      int equalsIndex = name.indexOf('=');
+      if (equalsIndex >= 0) {
+        value = name.substring(equalsIndex + 1);
+        name = name.substring(0, equalsIndex);
+      }
+      FlagKind kind = flags.get(name);
+      if (kind == null) {
+        if (value == null && name.startsWith("no") && flags.get(name.substring(2)) == FlagKind.BOOLEAN) {
+          parsed.put(name.substring(2), false);
+          continue;
+        }
+        throw new IllegalArgumentException("Unrecognized option: " + arg);
+      }
+      if (kind == FlagKind.BOOLEAN) {
+        parsed.put(name, value == null || parseBoolean(name, value));
+        continue;
+      }
+      if (value == null) {
+        if (++i >= args.length) {
+          throw new IllegalArgumentException("Expected value after --" + name);
+        }
+        value = args[i];
+      }
+      switch (kind) {
+        case INTEGER:
+          try {
+            parsed.put(name, Integer.parseInt(value));
+          } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format("While parsing option --%s=%s: '%s' is not an int", name, value, value));
+          }
+          break;
+        case STRING:
+          parsed.put(name, value);
+          break;
+        case STRING_LIST:
+          parsedLists.computeIfAbsent(name, unused -> ImmutableList.builder()).add(value);
+          break;
+        default:
+          throw new IllegalStateException("Internal Error! Unexpected FlagKind: " + kind);
+      }
+    }
+    parsedLists.forEach((name, values) -> parsed.put(name, values.build()));
+
+    // Every flag that wasn't explicitly passed gets its default.
+    ImmutableMap.Builder<String, Object> res = ImmutableMap.builderWithExpectedSize(flags.size());
+    flags.forEach((name, kind) -> res.put(name, parsed.getOrDefault(name, getDefaultValue(kind))));
+    return res.build();
+  }
+
+  private static boolean parseBoolean(String name, String value) {
+    switch (value.toLowerCase()) {
+      case "true":
+      case "yes":
+      case "1":
+        return true;
+      case "false":
+      case "no":
+      case "0":
+        return false;
+      default:
+        throw new IllegalArgumentException(
+            String.format("While parsing option --%s=%s: '%s' is not a boolean", name, value, value));
+    }
+  }
 
-      $Flags.$parsedOptions = ImmutableMap.copyOf(parser.getOptions($Flags.$programOptionsClass).asMap());
-      $Flags.$isInitialized = true;
+  private static Object getDefaultValue(FlagKind kind) {
+    switch (kind) {
+      case BOOLEAN:
+        return false;
+      case INTEGER:
+        return 0;
+      case STRING:
+        return "";
+      case STRING_LIST:
+        return ImmutableList.of();
+      default:
+        throw new IllegalStateException("Internal Error! Unexpected FlagKind: " + kind);
     }
-    return $Flags.$parsedOptions;
   }
 }
@@ -7,6 +7,7 @@ import com.claro.intermediate_representation.types.impls.user_defined_impls.$Use
 import com.claro.stdlib.StdLibModuleRegistry;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
@@ -58,6 +59,16 @@ public class $HttpUtil {
   //  should just be up to the user how they want to handle the response.
   public static ClaroFuture<Object> executeAsyncHttpRequest(Call<ResponseBody> callAsync) {
     SettableFuture<Object> settableFuture = SettableFuture.create();
+    // If the caller gives up on this request (e.g. the Graph Procedure it was issued from was cancelled or exceeded its
+    // deadline) then there's no reason to keep holding the connection open.
+    settableFuture.addListener(
+        () -> {
+          if (settableFuture.isCancelled()) {
+            callAsync.cancel();
+          }
+        },
+        MoreExecutors.directExecutor()
+    );
 
     callAsync.enqueue(new Callback<ResponseBody>() {
       @Override
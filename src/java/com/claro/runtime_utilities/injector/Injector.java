@@ -1,6 +1,9 @@
 package com.claro.runtime_utilities.injector;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The entire purpose of this class is basically just to have a single known place to statically
@@ -8,9 +11,46 @@ import java.util.LinkedHashMap;
  * This is an extremely minimal structure, literally just serving the purpose of centrally marking
  * down the bindings that are configured by Modules and giving Claro access to inject dependencies
  * from a single centralized location.
+ * <p>
+ * Generated code resolves each injected Key to a fixed integer slot exactly once (at class init of the procedure that
+ * injects it) so that actually injecting a value is just an array read, w/o allocating a Key or hashing its Type.
+ * Bound values live in an immutable frame that's replaced wholesale (copy-on-write) on each bind/unbind, so reads
+ * from Graph Procedure threads are always safe w/o any locking.
  */
 public class Injector {
+  // This is only used by the interpreted backend, the generated JavaSource goes through the slot-resolved API below.
   public static LinkedHashMap<Key, Object> bindings = new LinkedHashMap<>();
+
+  private static final ConcurrentHashMap<Key, Integer> slotsByKey = new ConcurrentHashMap<>();
+  private static final AtomicInteger nextSlot = new AtomicInteger(0);
+  private static volatile Object[] boundValuesFrame = new Object[0];
+
+  public static int slotFor(Key key) {
+    return slotsByKey.computeIfAbsent(key, unused -> nextSlot.getAndIncrement());
+  }
+
+  public static Object get(int slot) {
+    Object[] frame = boundValuesFrame;
+    return slot < frame.length ? frame[slot] : null;
+  }
+
+  public static synchronized void bind(Key key, Object value) {
+    int slot = slotFor(key);
+    Object[] frame = boundValuesFrame;
+    Object[] updatedFrame = Arrays.copyOf(frame, Math.max(frame.length, slot + 1));
+    updatedFrame[slot] = value;
+    boundValuesFrame = updatedFrame;
+  }
+
+  public static synchronized void unbind(Key key) {
+    int slot = slotFor(key);
+    Object[] frame = boundValuesFrame;
+    if (slot < frame.length) {
+      Object[] updatedFrame = frame.clone();
+      updatedFrame[slot] = null;
+      boundValuesFrame = updatedFrame;
+    }
+  }
 }
 
 
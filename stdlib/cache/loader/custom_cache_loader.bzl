@@ -14,6 +14,7 @@ CacheWithCustomLoader = \
         },
         default_deps = {
             "cache": "@claro-lang//stdlib/cache:cache",
+            "duration": "@claro-lang//stdlib/time/duration:duration",
         },
-        default_exports = ["cache"],
+        default_exports = ["cache", "duration"],
     )